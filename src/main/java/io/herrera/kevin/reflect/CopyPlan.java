@@ -0,0 +1,208 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.SneakyThrows;
+
+/**
+ * Copies instances of a class while replacing the values of some of their fields.
+ *
+ * <p>The plan is built once per class. It holds a handle that allocates an instance without
+ * calling any constructor (using <code>sun.misc.Unsafe</code> if available, or the no-argument
+ * constructor if not), and for each instance field, a handle that copies its value from one
+ * instance to another without boxing and a handle that writes a new value to it. Final fields are
+ * written the same way as other fields, which is possible for every class except records and
+ * hidden classes. Once all fields are written, a store fence is issued so that the copy can be
+ * safely published like an object whose final fields were set by its constructor.</p>
+ */
+final class CopyPlan {
+
+    /**
+     * The plan for each class.
+     */
+    private static final ClassValue<CopyPlan> CACHE = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> clazz) {
+            return new CopyPlan(clazz);
+        }
+    };
+
+    /**
+     * The handle used to allocate instances of any class, if available.
+     */
+    private static final MethodHandle ALLOCATE_INSTANCE = UnsafeAccess.find(
+        "allocateInstance",
+        Class.class
+    );
+
+    /**
+     * The handle used to issue a store fence, if available.
+     */
+    private static final MethodHandle STORE_FENCE = UnsafeAccess.find("storeFence");
+
+    /**
+     * The handle used to allocate instances, typed <code>()Object</code>.
+     */
+    private final MethodHandle allocator;
+
+    /**
+     * The handles that copy each field, typed <code>(Object, Object)void</code>.
+     */
+    private final MethodHandle[] copiers;
+
+    /**
+     * The index of each field by name.
+     */
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * The reason instances cannot be copied, if any.
+     */
+    private final String unsupported;
+
+    /**
+     * The handles that write each field, typed <code>(Object, Object)void</code>.
+     */
+    private final MethodHandle[] writers;
+
+    /**
+     * Builds the plan for a class.
+     *
+     * @param clazz The class.
+     */
+    private CopyPlan(Class<?> clazz) {
+        FieldIndex index = FieldIndex.of(clazz);
+        Field[] fields = index.getAccessibleFields();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle allocator = null;
+        String unsupported = null;
+
+        this.copiers = new MethodHandle[fields.length];
+        this.writers = new MethodHandle[fields.length];
+
+        if (clazz.isArray() || clazz.isPrimitive() || Modifier.isAbstract(clazz.getModifiers())) {
+            unsupported = "it is not a concrete class";
+        } else if (fields.length != index.getInstanceFields().length) {
+            unsupported = "some of its fields cannot be made accessible";
+        } else {
+            try {
+                allocator = findAllocator(clazz, lookup);
+
+                for (int i = 0; i < fields.length; i++) {
+                    MethodHandle getter = lookup.unreflectGetter(fields[i]);
+                    MethodHandle setter = lookup.unreflectSetter(fields[i]);
+
+                    this.copiers[i] = MethodHandles
+                        .filterArguments(setter, 1, getter)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    this.writers[i] = setter.asType(
+                        MethodType.methodType(void.class, Object.class, Object.class)
+                    );
+
+                    indexes.putIfAbsent(fields[i].getName(), i);
+                }
+            } catch (IllegalAccessException | NoSuchMethodException cause) {
+                unsupported = cause.getMessage();
+            }
+        }
+
+        this.allocator = allocator;
+        this.unsupported = unsupported;
+    }
+
+    /**
+     * Copies an instance, replacing the values of some of its fields.
+     *
+     * @param <T>      The type of the instance.
+     * @param instance The instance.
+     * @param values   The new values by field name.
+     *
+     * @return The copy.
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    <T> T copy(T instance, Map<String, ?> values) {
+        if (unsupported != null) {
+            throw new UnsupportedOperationException(
+                String.format(
+                    "Instances of %s cannot be copied: %s.",
+                    instance.getClass().getName(),
+                    unsupported
+                )
+            );
+        }
+
+        Object copy = allocator.invokeExact();
+
+        for (MethodHandle copier : copiers) {
+            copier.invokeExact(copy, (Object) instance);
+        }
+
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            Integer index = indexes.get(entry.getKey());
+
+            if (index == null) {
+                throw new NoSuchFieldException(entry.getKey());
+            }
+
+            writers[index].invokeExact(copy, (Object) entry.getValue());
+        }
+
+        if (STORE_FENCE != null) {
+            STORE_FENCE.invokeExact();
+        }
+
+        return (T) copy;
+    }
+
+    /**
+     * Finds the handle used to allocate instances of a class.
+     *
+     * @param clazz  The class.
+     * @param lookup The lookup used to create the handle.
+     *
+     * @return The handle, typed <code>()Object</code>.
+     *
+     * @throws IllegalAccessException If the constructor cannot be accessed.
+     * @throws NoSuchMethodException  If there is no way to allocate instances.
+     */
+    private static MethodHandle findAllocator(Class<?> clazz, MethodHandles.Lookup lookup)
+        throws IllegalAccessException, NoSuchMethodException {
+        if (ALLOCATE_INSTANCE != null) {
+            return MethodHandles
+                .insertArguments(ALLOCATE_INSTANCE, 0, clazz)
+                .asType(MethodType.methodType(Object.class));
+        }
+
+        Constructor<?> constructor = clazz.getDeclaredConstructor();
+
+        constructor.setAccessible(true);
+
+        return lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+    }
+
+    /**
+     * Returns the plan for a class.
+     *
+     * @param clazz The class.
+     *
+     * @return The plan.
+     *
+     * @throws IllegalArgumentException If the class is an enum, since its constants are unique.
+     */
+    static CopyPlan of(Class<?> clazz) {
+        if (Enum.class.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException(
+                String.format("The enum constants of %s cannot be copied.", clazz.getName())
+            );
+        }
+
+        return CACHE.get(clazz);
+    }
+}
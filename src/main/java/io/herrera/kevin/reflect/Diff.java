@@ -0,0 +1,699 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.SneakyThrows;
+
+/**
+ * Compares the fields of two objects and reports the differences.
+ *
+ * <p>Objects are compared field by field using the cached field index of their class, descending
+ * into referenced objects and arrays until the depth limit is reached. Primitive fields are
+ * compared without boxing, and identical references are skipped without being descended into.
+ * Value types (e.g. <code>String</code>, boxed primitives, <code>BigDecimal</code>, enums, and the
+ * <code>java.time</code> classes) are compared using <code>equals()</code>, as are values found at
+ * the depth limit. JDK collections, maps, and dates are also compared using <code>equals()</code>,
+ * while JDK character sequences and numbers that do not override it (e.g.
+ * <code>StringBuilder</code>, <code>AtomicInteger</code>) are compared by their string values.
+ * Other classes, including those of the JDK, are walked field by field, unless some of their
+ * fields cannot be made accessible (e.g. most JDK classes on Java 9 and later), in which case they
+ * are also compared using <code>equals()</code>. For classes that do not override it, this only
+ * finds that two instances are different, and not what changed in place. Primitive arrays are
+ * always compared element by element.</p>
+ *
+ * <p>The left side of a comparison may also be a snapshot captured by {@link #capture(Object,
+ * int)}, which allows an object to be compared against an earlier version of itself. Since the JDK
+ * values compared as a whole are usually changed in place, they are copied when captured. The
+ * copies are shallow, so the elements of collections and maps are still captured by
+ * reference.</p>
+ */
+final class Diff {
+
+    /**
+     * Whether the instances of each class are compared as a whole.
+     */
+    private static final ClassValue<Boolean> LEAVES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeLeaf(type);
+        }
+    };
+
+    /**
+     * The value types, other than enums and the classes in <code>java.time</code>.
+     */
+    private static final Set<Class<?>> VALUES = new LinkedHashSet<>(
+        Arrays.asList(
+            BigDecimal.class,
+            BigInteger.class,
+            Boolean.class,
+            Byte.class,
+            Character.class,
+            Class.class,
+            Currency.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Locale.class,
+            Long.class,
+            Short.class,
+            String.class,
+            URI.class,
+            UUID.class
+        )
+    );
+
+    /**
+     * Whether each class overrides <code>equals()</code>.
+     */
+    private static final ClassValue<Boolean> WITH_EQUALS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException cause) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Prevents instantiation.
+     */
+    private Diff() {
+    }
+
+    /**
+     * Captures the state of an object.
+     *
+     * @param object   The object.
+     * @param maxDepth The maximum depth to capture.
+     *
+     * @return The captured state.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    static Object capture(Object object, int maxDepth) {
+        Map<Object, Node> nodes = new IdentityHashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        Object root = captureValue(object, 0, maxDepth, nodes, pending);
+
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int depth = node.depth + 1;
+
+            if (node.source instanceof Object[]) {
+                Object[] elements = (Object[]) node.source;
+
+                for (int i = 0; i < elements.length; i++) {
+                    node.values[i] = captureValue(elements[i], depth, maxDepth, nodes, pending);
+                }
+
+                continue;
+            }
+
+            Field[] fields = FieldIndex.of(node.source.getClass()).getAccessibleFields();
+
+            for (int i = 0; i < fields.length; i++) {
+                Object value = fields[i].get(node.source);
+
+                if (!fields[i].getType().isPrimitive()) {
+                    value = captureValue(value, depth, maxDepth, nodes, pending);
+                }
+
+                node.values[i] = value;
+            }
+        }
+
+        return root;
+    }
+
+    /**
+     * Captures the state of a value.
+     *
+     * @param value    The value.
+     * @param depth    The depth of the value.
+     * @param maxDepth The maximum depth to capture.
+     * @param nodes    The nodes already captured.
+     * @param pending  The nodes waiting to be filled.
+     *
+     * @return The captured value.
+     */
+    private static Object captureValue(
+        Object value,
+        int depth,
+        int maxDepth,
+        Map<Object, Node> nodes,
+        Deque<Node> pending
+    ) {
+        if (value == null) {
+            return null;
+        }
+
+        Class<?> type = value.getClass();
+
+        if (type.isArray() && type.getComponentType().isPrimitive()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(type.getComponentType(), length);
+
+            System.arraycopy(value, 0, copy, 0, length);
+
+            return copy;
+        } else if (isLeaf(type) || depth >= maxDepth) {
+            Object copy = copyOf(value);
+
+            return copy == value ? value : new Copy(type, copy);
+        }
+
+        Node node = nodes.get(value);
+
+        if (node == null) {
+            int size = type.isArray()
+                ? Array.getLength(value)
+                : FieldIndex.of(type).getAccessibleFields().length;
+
+            node = new Node(value, depth, size);
+
+            nodes.put(value, node);
+            pending.push(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Creates the path to a field.
+     *
+     * @param path The path to the object.
+     * @param name The name of the field.
+     *
+     * @return The path.
+     */
+    private static String child(String path, String name) {
+        return path.isEmpty() ? name : path + '.' + name;
+    }
+
+    /**
+     * Compares two objects and returns the differences.
+     *
+     * @param left     The old object, or a captured state.
+     * @param right    The new object.
+     * @param maxDepth The maximum depth to descend.
+     *
+     * @return The differences.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    static List<Difference> compare(Object left, Object right, int maxDepth) {
+        List<Difference> differences = new ArrayList<>();
+
+        if (left == right) {
+            return differences;
+        }
+
+        Map<Object, Object> visited = new IdentityHashMap<>();
+        Deque<Pending> pending = new ArrayDeque<>();
+
+        pending.add(new Pending("", left, right, 0));
+
+        while (!pending.isEmpty()) {
+            Pending next = pending.poll();
+
+            compareValue(next, maxDepth, visited, pending, differences);
+        }
+
+        return differences;
+    }
+
+    /**
+     * Compares two primitive arrays.
+     *
+     * @param path        The path to the arrays.
+     * @param left        The old array.
+     * @param right       The new array.
+     * @param differences The differences found.
+     */
+    private static void compareArrays(
+        String path,
+        Object left,
+        Object right,
+        List<Difference> differences
+    ) {
+        if (isEqualArray(left, right)) {
+            return;
+        }
+
+        int length = Array.getLength(left);
+
+        if (length != Array.getLength(right)) {
+            differences.add(new Difference(path, left, right));
+
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            Object oldValue = Array.get(left, i);
+            Object newValue = Array.get(right, i);
+
+            if (!oldValue.equals(newValue)) {
+                differences.add(new Difference(path + '[' + i + ']', oldValue, newValue));
+            }
+        }
+    }
+
+    /**
+     * Compares a pair of values, queuing any nested pairs that need to be compared.
+     *
+     * @param next        The pair of values.
+     * @param maxDepth    The maximum depth to descend.
+     * @param visited     The pairs of objects already compared.
+     * @param pending     The pairs of values waiting to be compared.
+     * @param differences The differences found.
+     *
+     * @throws IllegalAccessException If a field could not be read.
+     */
+    private static void compareValue(
+        Pending next,
+        int maxDepth,
+        Map<Object, Object> visited,
+        Deque<Pending> pending,
+        List<Difference> differences
+    ) throws IllegalAccessException {
+        Object left = next.left;
+        Object right = next.right;
+
+        if (left instanceof Copy) {
+            Copy copy = (Copy) left;
+
+            boolean isSameType = right != null && copy.type == right.getClass();
+
+            if (!isSameType || !copy.value.equals(valueOf(right))) {
+                differences.add(new Difference(next.path, copy.value, right));
+            }
+
+            return;
+        }
+
+        Node node = left instanceof Node ? (Node) left : null;
+        Object source = node == null ? left : node.source;
+
+        if (left == null || right == null || source.getClass() != right.getClass()) {
+            differences.add(new Difference(next.path, source, right));
+
+            return;
+        }
+
+        Class<?> type = right.getClass();
+
+        if (type.isArray() && type.getComponentType().isPrimitive()) {
+            compareArrays(next.path, left, right, differences);
+
+            return;
+        } else if (node == null && (isLeaf(type) || next.depth >= maxDepth)) {
+            if (!Objects.equals(valueOf(left), valueOf(right))) {
+                differences.add(new Difference(next.path, left, right));
+            }
+
+            return;
+        } else if (visited.put(left, right) == right) {
+            return;
+        }
+
+        int depth = next.depth + 1;
+
+        if (type.isArray()) {
+            Object[] elements = (Object[]) right;
+            Object[] previous = node == null ? (Object[]) left : node.values;
+
+            if (previous.length != elements.length) {
+                differences.add(new Difference(next.path, source, right));
+
+                return;
+            }
+
+            for (int i = 0; i < elements.length; i++) {
+                if (previous[i] != elements[i]) {
+                    String path = next.path + '[' + i + ']';
+
+                    pending.add(new Pending(path, previous[i], elements[i], depth));
+                }
+            }
+
+            return;
+        }
+
+        Field[] fields = FieldIndex.of(type).getAccessibleFields();
+
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+
+            if (field.getType().isPrimitive()) {
+                boolean isEqual = node == null
+                    ? isEqualField(field, left, right)
+                    : isEqualCaptured(field, node.values[i], right);
+
+                if (!isEqual) {
+                    Object oldValue = node == null ? field.get(left) : node.values[i];
+
+                    differences.add(
+                        new Difference(
+                            child(next.path, field.getName()),
+                            oldValue,
+                            field.get(right)
+                        )
+                    );
+                }
+
+                continue;
+            }
+
+            Object oldValue = node == null ? field.get(left) : node.values[i];
+            Object newValue = field.get(right);
+
+            if (oldValue != newValue) {
+                String path = child(next.path, field.getName());
+
+                pending.add(new Pending(path, oldValue, newValue, depth));
+            }
+        }
+    }
+
+    /**
+     * Checks if instances of a class are compared as a whole.
+     *
+     * @param type The class.
+     *
+     * @return Returns <code>true</code> if compared as a whole, or <code>false</code> if not.
+     */
+    private static boolean computeLeaf(Class<?> type) {
+        if (type.isArray()) {
+            return false;
+        } else if (isValue(type)) {
+            return true;
+        } else if (type.getClassLoader() == null
+            && (Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type)
+                || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type)
+                || type == AtomicBoolean.class)) {
+            return true;
+        }
+
+        FieldIndex index = FieldIndex.of(type);
+
+        return index.getAccessibleFields().length != index.getInstanceFields().length;
+    }
+
+    /**
+     * Copies a value that is compared as a whole and may be changed in place.
+     *
+     * @param value The value.
+     *
+     * @return The copy, or the value itself if it does not need to be copied.
+     */
+    private static Object copyOf(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        } else if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        } else if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+
+        return valueOf(value);
+    }
+
+    /**
+     * Checks if two primitive arrays are equal.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     *
+     * @return Returns <code>true</code> if equal, or <code>false</code> if not.
+     */
+    private static boolean isEqualArray(Object left, Object right) {
+        if (left instanceof int[]) {
+            return Arrays.equals((int[]) left, (int[]) right);
+        } else if (left instanceof long[]) {
+            return Arrays.equals((long[]) left, (long[]) right);
+        } else if (left instanceof byte[]) {
+            return Arrays.equals((byte[]) left, (byte[]) right);
+        } else if (left instanceof char[]) {
+            return Arrays.equals((char[]) left, (char[]) right);
+        } else if (left instanceof double[]) {
+            return Arrays.equals((double[]) left, (double[]) right);
+        } else if (left instanceof float[]) {
+            return Arrays.equals((float[]) left, (float[]) right);
+        } else if (left instanceof short[]) {
+            return Arrays.equals((short[]) left, (short[]) right);
+        }
+
+        return Arrays.equals((boolean[]) left, (boolean[]) right);
+    }
+
+    /**
+     * Checks if a captured primitive value is equal to the value of a primitive field.
+     *
+     * @param field    The primitive field.
+     * @param captured The captured value.
+     * @param right    The object to read.
+     *
+     * @return Returns <code>true</code> if equal, or <code>false</code> if not.
+     *
+     * @throws IllegalAccessException If the field could not be read.
+     */
+    private static boolean isEqualCaptured(Field field, Object captured, Object right)
+        throws IllegalAccessException {
+        Class<?> type = field.getType();
+
+        if (type == int.class) {
+            return (Integer) captured == field.getInt(right);
+        } else if (type == long.class) {
+            return (Long) captured == field.getLong(right);
+        } else if (type == boolean.class) {
+            return (Boolean) captured == field.getBoolean(right);
+        } else if (type == double.class) {
+            return Double.doubleToLongBits((Double) captured)
+                == Double.doubleToLongBits(field.getDouble(right));
+        } else if (type == float.class) {
+            return Float.floatToIntBits((Float) captured)
+                == Float.floatToIntBits(field.getFloat(right));
+        } else if (type == byte.class) {
+            return (Byte) captured == field.getByte(right);
+        } else if (type == char.class) {
+            return (Character) captured == field.getChar(right);
+        }
+
+        return (Short) captured == field.getShort(right);
+    }
+
+    /**
+     * Checks if a primitive field has the same value in two objects.
+     *
+     * @param field The primitive field.
+     * @param left  The first object.
+     * @param right The second object.
+     *
+     * @return Returns <code>true</code> if equal, or <code>false</code> if not.
+     *
+     * @throws IllegalAccessException If the field could not be read.
+     */
+    private static boolean isEqualField(Field field, Object left, Object right)
+        throws IllegalAccessException {
+        Class<?> type = field.getType();
+
+        if (type == int.class) {
+            return field.getInt(left) == field.getInt(right);
+        } else if (type == long.class) {
+            return field.getLong(left) == field.getLong(right);
+        } else if (type == boolean.class) {
+            return field.getBoolean(left) == field.getBoolean(right);
+        } else if (type == double.class) {
+            return Double.doubleToLongBits(field.getDouble(left))
+                == Double.doubleToLongBits(field.getDouble(right));
+        } else if (type == float.class) {
+            return Float.floatToIntBits(field.getFloat(left))
+                == Float.floatToIntBits(field.getFloat(right));
+        } else if (type == byte.class) {
+            return field.getByte(left) == field.getByte(right);
+        } else if (type == char.class) {
+            return field.getChar(left) == field.getChar(right);
+        }
+
+        return field.getShort(left) == field.getShort(right);
+    }
+
+    /**
+     * Checks if instances of a class are compared as a whole.
+     *
+     * @param type The class.
+     *
+     * @return Returns <code>true</code> if compared as a whole, or <code>false</code> if not.
+     */
+    private static boolean isLeaf(Class<?> type) {
+        return LEAVES.get(type);
+    }
+
+    /**
+     * Checks if a class is a value type, whose instances are equal if they have the same value.
+     *
+     * @param type The class.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    private static boolean isValue(Class<?> type) {
+        return VALUES.contains(type)
+            || Enum.class.isAssignableFrom(type)
+            || type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * Returns the value used to compare a value as a whole.
+     *
+     * <p>Lists, sets, maps, and dates are compared as they are. Other collections (e.g. queues)
+     * may not override <code>equals()</code>, so they are compared as lists. Character sequences
+     * and numbers that do not override <code>equals()</code> are compared as strings, and atomic
+     * booleans by their value.</p>
+     *
+     * @param value The value.
+     *
+     * @return The value to compare.
+     */
+    private static Object valueOf(Object value) {
+        if (value == null || value instanceof List || value instanceof Set) {
+            return value;
+        } else if (value instanceof Collection) {
+            return new ArrayList<>((Collection<?>) value);
+        } else if (value instanceof AtomicBoolean) {
+            return ((AtomicBoolean) value).get();
+        } else if ((value instanceof CharSequence || value instanceof Number)
+            && !WITH_EQUALS.get(value.getClass())) {
+            return value.toString();
+        }
+
+        return value;
+    }
+
+    /**
+     * The captured copy of a JDK value that may be changed in place.
+     */
+    private static final class Copy {
+
+        /**
+         * The class of the copied value.
+         */
+        private final Class<?> type;
+
+        /**
+         * The copy, comparable to the value returned by {@link #valueOf(Object)}.
+         */
+        private final Object value;
+
+        /**
+         * Creates a copy.
+         *
+         * @param type  The class of the copied value.
+         * @param value The copy.
+         */
+        private Copy(Class<?> type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The captured state of an object or object array.
+     */
+    private static final class Node {
+
+        /**
+         * The depth of the object.
+         */
+        private final int depth;
+
+        /**
+         * The captured object.
+         */
+        private final Object source;
+
+        /**
+         * The captured field or element values.
+         */
+        private final Object[] values;
+
+        /**
+         * Creates a node.
+         *
+         * @param source The captured object.
+         * @param depth  The depth of the object.
+         * @param size   The number of values to capture.
+         */
+        private Node(Object source, int depth, int size) {
+            this.depth = depth;
+            this.source = source;
+            this.values = new Object[size];
+        }
+    }
+
+    /**
+     * A pair of values waiting to be compared.
+     */
+    private static final class Pending {
+
+        /**
+         * The depth of the values.
+         */
+        private final int depth;
+
+        /**
+         * The old value.
+         */
+        private final Object left;
+
+        /**
+         * The path to the values.
+         */
+        private final String path;
+
+        /**
+         * The new value.
+         */
+        private final Object right;
+
+        /**
+         * Creates a pair.
+         *
+         * @param path  The path to the values.
+         * @param left  The old value.
+         * @param right The new value.
+         * @param depth The depth of the values.
+         */
+        private Pending(String path, Object left, Object right, int depth) {
+            this.depth = depth;
+            this.left = left;
+            this.path = path;
+            this.right = right;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.herrera.kevin.reflect;
+
+/**
+ * Describes a value that differs between two objects.
+ */
+public final class Difference {
+
+    /**
+     * The new value.
+     */
+    private final Object newValue;
+
+    /**
+     * The old value.
+     */
+    private final Object oldValue;
+
+    /**
+     * The path to the value.
+     */
+    private final String path;
+
+    /**
+     * Describes a difference.
+     *
+     * @param path     The path to the value.
+     * @param oldValue The old value.
+     * @param newValue The new value.
+     */
+    Difference(String path, Object oldValue, Object newValue) {
+        this.newValue = newValue;
+        this.oldValue = oldValue;
+        this.path = path;
+    }
+
+    /**
+     * Returns the new value.
+     *
+     * @return The value.
+     */
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    /**
+     * Returns the old value.
+     *
+     * @return The value.
+     */
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Returns the path to the value.
+     *
+     * <p>The path is made of field names separated by periods, with array indexes in brackets
+     * (e.g. <code>address.lines[1]</code>). If the objects themselves are different, the path is
+     * empty.</p>
+     *
+     * @return The path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s -> %s", path, oldValue, newValue);
+    }
+}
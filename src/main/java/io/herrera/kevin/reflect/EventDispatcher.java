@@ -0,0 +1,341 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import lombok.SneakyThrows;
+
+/**
+ * Dispatches events to the handler methods of registered listeners.
+ *
+ * <p>The handler methods of a listener class are found once, the first time a listener of that
+ * class is registered. A handler is an instance method with exactly one parameter that is either
+ * annotated with {@link Subscribe}, or is named after the simple name of its parameter type (e.g.
+ * <code>onUserCreated(UserCreated event)</code>). Handlers declared by superclasses are included.
+ * A handler receives events of its parameter type and of any of its subtypes.</p>
+ *
+ * <p>For each type of event dispatched, the matching handlers of all registered listeners are
+ * resolved once into a dispatch table, which is reused until a listener is registered or
+ * unregistered. Handlers are called through method handles bound to their listeners.</p>
+ *
+ * <p>The dispatcher is thread safe and does not lock: registering or unregistering a listener
+ * replaces the current state with a compare-and-set, and dispatching only reads it. Handlers are
+ * called in the order their listeners were registered, either on the dispatching thread or, if an
+ * executor is given, on the executor.</p>
+ */
+public class EventDispatcher {
+
+    /**
+     * The handler methods of each listener class.
+     */
+    private static final ClassValue<Method[]> HANDLERS = new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> clazz) {
+            return findHandlers(clazz);
+        }
+    };
+
+    /**
+     * The type of a bound handler.
+     */
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    /**
+     * Updates the current state atomically.
+     */
+    private static final AtomicReferenceFieldUpdater<EventDispatcher, State> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(EventDispatcher.class, State.class, "state");
+
+    /**
+     * The executor used to call handlers, if any.
+     */
+    private final Executor executor;
+
+    /**
+     * The current registrations and dispatch tables.
+     */
+    private volatile State state = new State(new Subscription[0]);
+
+    /**
+     * Creates a dispatcher that calls handlers on the dispatching thread.
+     */
+    public EventDispatcher() {
+        this.executor = null;
+    }
+
+    /**
+     * Creates a dispatcher that calls handlers using an executor.
+     *
+     * <p>Each handler is submitted to the executor separately. Exceptions thrown by handlers are
+     * handled by the executor.</p>
+     *
+     * @param executor The executor.
+     */
+    public EventDispatcher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "The executor is required.");
+    }
+
+    /**
+     * Dispatches an event to the handlers that accept it.
+     *
+     * <p>If handlers are called on the dispatching thread and one of them throws an exception,
+     * the exception is rethrown and the remaining handlers are not called.</p>
+     *
+     * @param event The event.
+     *
+     * @return The number of handlers the event was dispatched to.
+     */
+    public int dispatch(Object event) {
+        Objects.requireNonNull(event, "The event is required.");
+
+        Subscription[] subscriptions = state.lookup(event.getClass());
+
+        for (Subscription subscription : subscriptions) {
+            if (executor == null) {
+                subscription.invoke(event);
+            } else {
+                executor.execute(() -> subscription.invoke(event));
+            }
+        }
+
+        return subscriptions.length;
+    }
+
+    /**
+     * Finds the handler methods of a listener class.
+     *
+     * @param clazz The listener class.
+     *
+     * @return The handler methods.
+     */
+    private static Method[] findHandlers(Class<?> clazz) {
+        List<Method> handlers = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Method method : MethodIndex.of(current).getAccessibleMethods()) {
+                if (isHandler(method) && signatures.add(signatureOf(method))) {
+                    handlers.add(method);
+                }
+            }
+        }
+
+        return handlers.toArray(new Method[0]);
+    }
+
+    /**
+     * Checks if a method is an event handler.
+     *
+     * @param method The method.
+     *
+     * @return Returns <code>true</code> if a handler, or <code>false</code> if not.
+     */
+    private static boolean isHandler(Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+            || method.isBridge()
+            || method.isSynthetic()
+            || method.getParameterCount() != 1) {
+            return false;
+        }
+
+        Class<?> type = method.getParameterTypes()[0];
+
+        if (type.isPrimitive()) {
+            return false;
+        }
+
+        return method.isAnnotationPresent(Subscribe.class)
+            || method.getName().equals("on" + type.getSimpleName());
+    }
+
+    /**
+     * Registers the handlers of a listener.
+     *
+     * @param listener The listener.
+     *
+     * @return The number of handlers registered.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public int register(Object listener) {
+        Objects.requireNonNull(listener, "The listener is required.");
+
+        Method[] handlers = HANDLERS.get(listener.getClass());
+        Subscription[] added = new Subscription[handlers.length];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (int i = 0; i < handlers.length; i++) {
+            MethodHandle handle = lookup
+                .unreflect(handlers[i])
+                .bindTo(listener)
+                .asType(HANDLER_TYPE);
+
+            added[i] = new Subscription(listener, handlers[i].getParameterTypes()[0], handle);
+        }
+
+        State current;
+        State next;
+
+        do {
+            current = state;
+
+            Subscription[] subscriptions = Arrays.copyOf(
+                current.subscriptions,
+                current.subscriptions.length + added.length
+            );
+
+            System.arraycopy(added, 0, subscriptions, current.subscriptions.length, added.length);
+
+            next = new State(subscriptions);
+        } while (!STATE.compareAndSet(this, current, next));
+
+        return added.length;
+    }
+
+    /**
+     * Creates a signature that identifies overridden methods.
+     *
+     * @param method The method.
+     *
+     * @return The signature.
+     */
+    private static String signatureOf(Method method) {
+        String signature = method.getName() + '(' + method.getParameterTypes()[0].getName() + ')';
+
+        if (Modifier.isPrivate(method.getModifiers())) {
+            signature = method.getDeclaringClass().getName() + '.' + signature;
+        }
+
+        return signature;
+    }
+
+    /**
+     * Unregisters the handlers of a listener.
+     *
+     * @param listener The listener.
+     *
+     * @return The number of handlers unregistered.
+     */
+    public int unregister(Object listener) {
+        Objects.requireNonNull(listener, "The listener is required.");
+
+        State current;
+        Subscription[] remaining;
+
+        do {
+            current = state;
+            remaining = Arrays
+                .stream(current.subscriptions)
+                .filter(subscription -> subscription.listener != listener)
+                .toArray(Subscription[]::new);
+        } while (!STATE.compareAndSet(this, current, new State(remaining)));
+
+        return current.subscriptions.length - remaining.length;
+    }
+
+    /**
+     * The registrations and dispatch tables at a point in time.
+     *
+     * <p>A new state is created whenever a listener is registered or unregistered, so the dispatch
+     * tables never need to be invalidated.</p>
+     */
+    private static final class State {
+
+        /**
+         * The handlers of each event type.
+         */
+        private final ConcurrentMap<Class<?>, Subscription[]> tables = new ConcurrentHashMap<>();
+
+        /**
+         * The registered handlers.
+         */
+        private final Subscription[] subscriptions;
+
+        /**
+         * Creates a state.
+         *
+         * @param subscriptions The registered handlers.
+         */
+        private State(Subscription[] subscriptions) {
+            this.subscriptions = subscriptions;
+        }
+
+        /**
+         * Returns the handlers of an event type.
+         *
+         * @param type The event type.
+         *
+         * @return The handlers.
+         */
+        private Subscription[] lookup(Class<?> type) {
+            Subscription[] table = tables.get(type);
+
+            if (table == null) {
+                table = tables.computeIfAbsent(
+                    type,
+                    key -> Arrays
+                        .stream(subscriptions)
+                        .filter(subscription -> subscription.type.isAssignableFrom(key))
+                        .toArray(Subscription[]::new)
+                );
+            }
+
+            return table;
+        }
+    }
+
+    /**
+     * A handler bound to its listener.
+     */
+    private static final class Subscription {
+
+        /**
+         * The bound handler.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * The listener.
+         */
+        private final Object listener;
+
+        /**
+         * The event type.
+         */
+        private final Class<?> type;
+
+        /**
+         * Creates a subscription.
+         *
+         * @param listener The listener.
+         * @param type     The event type.
+         * @param handle   The bound handler.
+         */
+        private Subscription(Object listener, Class<?> type, MethodHandle handle) {
+            this.handle = handle;
+            this.listener = listener;
+            this.type = type;
+        }
+
+        /**
+         * Calls the handler.
+         *
+         * @param event The event.
+         */
+        @SneakyThrows
+        private void invoke(Object event) {
+            handle.invokeExact(event);
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import lombok.SneakyThrows;
+
+/**
+ * Compares objects by the values of one or more of their fields.
+ *
+ * <p>The fields are found once when the comparator is created, and each field is read using an
+ * accessor specialized for its type, so primitive values are never boxed. Fields are compared in
+ * the order given. The values of reference fields are expected to be <code>Comparable</code>, and
+ * <code>null</code> values are ordered according to {@link #nullsFirst()} or {@link #nullsLast()}
+ * regardless of the direction of the field.</p>
+ *
+ * <p>To sort large lists or arrays, {@link #sort(List)} and {@link #sort(Object[])} read the
+ * fields of each element once into arrays of keys, then sort using the keys alone.</p>
+ *
+ * @param <T> The type of the objects.
+ *
+ * @see Reflect#comparator(Class, String...)
+ */
+public final class FieldComparator<T> implements Comparator<T> {
+
+    /**
+     * The directions of the fields.
+     */
+    private final boolean[] descending;
+
+    /**
+     * The fields to compare.
+     */
+    private final Field[] fields;
+
+    /**
+     * The keys used to compare the fields.
+     */
+    private final Key[] keys;
+
+    /**
+     * Order <code>null</code> values first?
+     */
+    private final boolean nullsFirst;
+
+    /**
+     * Creates a comparator.
+     *
+     * @param fields     The fields to compare.
+     * @param descending The directions of the fields.
+     * @param nullsFirst Order <code>null</code> values first?
+     */
+    private FieldComparator(Field[] fields, boolean[] descending, boolean nullsFirst) {
+        this.descending = descending;
+        this.fields = fields;
+        this.keys = new Key[fields.length];
+        this.nullsFirst = nullsFirst;
+
+        for (int i = 0; i < fields.length; i++) {
+            keys[i] = createKey(fields[i], descending[i], nullsFirst);
+        }
+    }
+
+    @Override
+    @SneakyThrows({ IllegalAccessException.class })
+    public int compare(T left, T right) {
+        for (Key key : keys) {
+            int result = key.compare(left, right);
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Compares two rows of extracted keys.
+     *
+     * @param columns The extracted keys.
+     * @param left    The first row.
+     * @param right   The second row.
+     *
+     * @return The result of the comparison.
+     */
+    private static int compareRows(Column[] columns, int left, int right) {
+        for (Column column : columns) {
+            int result = column.compare(left, right);
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Creates the key used to compare a field.
+     *
+     * @param field      The field.
+     * @param descending Compare in descending order?
+     * @param nullsFirst Order <code>null</code> values first?
+     *
+     * @return The key.
+     */
+    private static Key createKey(Field field, boolean descending, boolean nullsFirst) {
+        Class<?> type = field.getType();
+
+        if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+            return new IntKey(field, descending);
+        } else if (type == long.class) {
+            return new LongKey(field, descending);
+        } else if (type == double.class || type == float.class) {
+            return new DoubleKey(field, descending);
+        } else if (type == boolean.class) {
+            return new BooleanKey(field, descending);
+        }
+
+        return new ObjectKey(field, descending, nullsFirst);
+    }
+
+    /**
+     * Extracts the keys of the elements.
+     *
+     * @param elements The elements.
+     *
+     * @return The sorted element indexes.
+     *
+     * @throws IllegalAccessException If a field could not be read.
+     */
+    private int[] sortIndexes(Object[] elements) throws IllegalAccessException {
+        Column[] columns = new Column[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            columns[i] = keys[i].extract(elements);
+        }
+
+        int[] indexes = new int[elements.length];
+
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+
+        int[] source = indexes;
+        int[] target = new int[indexes.length];
+
+        // A bottom-up merge sort, which is stable and does not box the indexes.
+        for (int width = 1; width < source.length; width *= 2) {
+            for (int low = 0; low < source.length; low += 2 * width) {
+                int middle = Math.min(low + width, source.length);
+                int high = Math.min(low + 2 * width, source.length);
+                int i = low;
+                int j = middle;
+                int k = low;
+
+                while (i < middle && j < high) {
+                    if (compareRows(columns, source[j], source[i]) < 0) {
+                        target[k++] = source[j++];
+                    } else {
+                        target[k++] = source[i++];
+                    }
+                }
+
+                System.arraycopy(source, i, target, k, middle - i);
+                System.arraycopy(source, j, target, k + middle - i, high - j);
+            }
+
+            int[] swap = source;
+
+            source = target;
+            target = swap;
+        }
+
+        return source;
+    }
+
+    /**
+     * Creates a comparator for the given fields.
+     *
+     * <p>Each name may be prefixed with <code>-</code> to compare the field in descending order,
+     * or <code>+</code> to compare it in ascending order (the default).</p>
+     *
+     * @param <T>   The type of the objects.
+     * @param clazz The class of the objects.
+     * @param names The names of the fields.
+     *
+     * @return The comparator.
+     */
+    static <T> FieldComparator<T> of(Class<T> clazz, String... names) {
+        Objects.requireNonNull(clazz, "The class is required.");
+        Objects.requireNonNull(names, "The field names are required.");
+
+        if (names.length == 0) {
+            throw new IllegalArgumentException("At least one field name is required.");
+        }
+
+        Field[] fields = new Field[names.length];
+        boolean[] descending = new boolean[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            String name = Objects.requireNonNull(names[i], "The field name is required.");
+
+            if (name.startsWith("-") || name.startsWith("+")) {
+                descending[i] = name.charAt(0) == '-';
+                name = name.substring(1);
+            }
+
+            fields[i] = Reflect.findField(clazz, name);
+        }
+
+        return new FieldComparator<>(fields, descending, true);
+    }
+
+    /**
+     * Returns a comparator that orders <code>null</code> field values before other values.
+     *
+     * <p>This is the default.</p>
+     *
+     * @return The comparator.
+     */
+    public FieldComparator<T> nullsFirst() {
+        return nullsFirst ? this : new FieldComparator<>(fields, descending, true);
+    }
+
+    /**
+     * Returns a comparator that orders <code>null</code> field values after other values.
+     *
+     * @return The comparator.
+     */
+    public FieldComparator<T> nullsLast() {
+        return nullsFirst ? new FieldComparator<>(fields, descending, false) : this;
+    }
+
+    /**
+     * Sorts a list.
+     *
+     * <p>The fields of each element are read once, before sorting, and the elements are then
+     * sorted by the extracted keys. The sort is stable.</p>
+     *
+     * @param list The list to sort.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public void sort(List<T> list) {
+        Objects.requireNonNull(list, "The list is required.");
+
+        Object[] elements = list.toArray();
+        int[] indexes = sortIndexes(elements);
+        ListIterator<T> iterator = list.listIterator();
+
+        for (int index : indexes) {
+            iterator.next();
+
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[index];
+
+            iterator.set(element);
+        }
+    }
+
+    /**
+     * Sorts an array.
+     *
+     * @param array The array to sort.
+     *
+     * @see #sort(List)
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public void sort(T[] array) {
+        Objects.requireNonNull(array, "The array is required.");
+
+        Object[] elements = array.clone();
+        int[] indexes = sortIndexes(elements);
+
+        for (int i = 0; i < indexes.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[indexes[i]];
+
+            array[i] = element;
+        }
+    }
+
+    /**
+     * Compares extracted keys by row.
+     */
+    private interface Column {
+
+        /**
+         * Compares two rows.
+         *
+         * @param left  The first row.
+         * @param right The second row.
+         *
+         * @return The result of the comparison.
+         */
+        int compare(int left, int right);
+    }
+
+    /**
+     * Compares the values of a field.
+     */
+    private abstract static class Key {
+
+        /**
+         * Compare in descending order?
+         */
+        final boolean descending;
+
+        /**
+         * The field.
+         */
+        final Field field;
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         */
+        Key(Field field, boolean descending) {
+            this.descending = descending;
+            this.field = field;
+        }
+
+        /**
+         * Compares the field of two objects.
+         *
+         * @param left  The first object.
+         * @param right The second object.
+         *
+         * @return The result of the comparison.
+         *
+         * @throws IllegalAccessException If the field could not be read.
+         */
+        abstract int compare(Object left, Object right) throws IllegalAccessException;
+
+        /**
+         * Extracts the field of each element.
+         *
+         * @param elements The elements.
+         *
+         * @return The extracted keys.
+         *
+         * @throws IllegalAccessException If the field could not be read.
+         */
+        abstract Column extract(Object[] elements) throws IllegalAccessException;
+    }
+
+    /**
+     * Compares <code>boolean</code> fields.
+     */
+    private static final class BooleanKey extends Key {
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         */
+        BooleanKey(Field field, boolean descending) {
+            super(field, descending);
+        }
+
+        @Override
+        int compare(Object left, Object right) throws IllegalAccessException {
+            boolean first = field.getBoolean(left);
+            boolean second = field.getBoolean(right);
+
+            return descending ? Boolean.compare(second, first) : Boolean.compare(first, second);
+        }
+
+        @Override
+        Column extract(Object[] elements) throws IllegalAccessException {
+            boolean[] values = new boolean[elements.length];
+
+            for (int i = 0; i < elements.length; i++) {
+                values[i] = field.getBoolean(elements[i]);
+            }
+
+            return descending
+                ? (left, right) -> Boolean.compare(values[right], values[left])
+                : (left, right) -> Boolean.compare(values[left], values[right]);
+        }
+    }
+
+    /**
+     * Compares <code>float</code> and <code>double</code> fields.
+     */
+    private static final class DoubleKey extends Key {
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         */
+        DoubleKey(Field field, boolean descending) {
+            super(field, descending);
+        }
+
+        @Override
+        int compare(Object left, Object right) throws IllegalAccessException {
+            double first = field.getDouble(left);
+            double second = field.getDouble(right);
+
+            return descending ? Double.compare(second, first) : Double.compare(first, second);
+        }
+
+        @Override
+        Column extract(Object[] elements) throws IllegalAccessException {
+            double[] values = new double[elements.length];
+
+            for (int i = 0; i < elements.length; i++) {
+                values[i] = field.getDouble(elements[i]);
+            }
+
+            return descending
+                ? (left, right) -> Double.compare(values[right], values[left])
+                : (left, right) -> Double.compare(values[left], values[right]);
+        }
+    }
+
+    /**
+     * Compares <code>int</code>, <code>short</code>, <code>byte</code>, and <code>char</code>
+     * fields.
+     */
+    private static final class IntKey extends Key {
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         */
+        IntKey(Field field, boolean descending) {
+            super(field, descending);
+        }
+
+        @Override
+        int compare(Object left, Object right) throws IllegalAccessException {
+            int first = field.getInt(left);
+            int second = field.getInt(right);
+
+            return descending ? Integer.compare(second, first) : Integer.compare(first, second);
+        }
+
+        @Override
+        Column extract(Object[] elements) throws IllegalAccessException {
+            int[] values = new int[elements.length];
+
+            for (int i = 0; i < elements.length; i++) {
+                values[i] = field.getInt(elements[i]);
+            }
+
+            return descending
+                ? (left, right) -> Integer.compare(values[right], values[left])
+                : (left, right) -> Integer.compare(values[left], values[right]);
+        }
+    }
+
+    /**
+     * Compares <code>long</code> fields.
+     */
+    private static final class LongKey extends Key {
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         */
+        LongKey(Field field, boolean descending) {
+            super(field, descending);
+        }
+
+        @Override
+        int compare(Object left, Object right) throws IllegalAccessException {
+            long first = field.getLong(left);
+            long second = field.getLong(right);
+
+            return descending ? Long.compare(second, first) : Long.compare(first, second);
+        }
+
+        @Override
+        Column extract(Object[] elements) throws IllegalAccessException {
+            long[] values = new long[elements.length];
+
+            for (int i = 0; i < elements.length; i++) {
+                values[i] = field.getLong(elements[i]);
+            }
+
+            return descending
+                ? (left, right) -> Long.compare(values[right], values[left])
+                : (left, right) -> Long.compare(values[left], values[right]);
+        }
+    }
+
+    /**
+     * Compares fields with <code>Comparable</code> values.
+     */
+    private static final class ObjectKey extends Key {
+
+        /**
+         * Order <code>null</code> values first?
+         */
+        private final boolean nullsFirst;
+
+        /**
+         * Creates a key.
+         *
+         * @param field      The field.
+         * @param descending Compare in descending order?
+         * @param nullsFirst Order <code>null</code> values first?
+         */
+        ObjectKey(Field field, boolean descending, boolean nullsFirst) {
+            super(field, descending);
+
+            this.nullsFirst = nullsFirst;
+        }
+
+        @Override
+        int compare(Object left, Object right) throws IllegalAccessException {
+            return compareValues(field.get(left), field.get(right));
+        }
+
+        /**
+         * Compares two field values.
+         *
+         * @param first  The first value.
+         * @param second The second value.
+         *
+         * @return The result of the comparison.
+         */
+        @SuppressWarnings("unchecked")
+        private int compareValues(Object first, Object second) {
+            if (first == second) {
+                return 0;
+            } else if (first == null) {
+                return nullsFirst ? -1 : 1;
+            } else if (second == null) {
+                return nullsFirst ? 1 : -1;
+            }
+
+            return descending
+                ? ((Comparable<Object>) second).compareTo(first)
+                : ((Comparable<Object>) first).compareTo(second);
+        }
+
+        @Override
+        Column extract(Object[] elements) throws IllegalAccessException {
+            Object[] values = new Object[elements.length];
+
+            for (int i = 0; i < elements.length; i++) {
+                values[i] = field.get(elements[i]);
+            }
+
+            return (left, right) -> compareValues(values[left], values[right]);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches the fields of a class and its superclasses.
+ *
+ * <p>The index is built once per class and shared by every caller. Fields are ordered the same
+ * way <code>Reflect.findField()</code> searches for them: the fields declared by the class come
+ * first, followed by those of its superclass, and so on. Fields that cannot be made accessible
+ * (e.g. private fields of JDK classes in a module that is not open) are still indexed, but are
+ * excluded from the accessible and reference plans since their values cannot be read.</p>
+ */
+final class FieldIndex {
+
+    /**
+     * The index for each class.
+     */
+    private static final ClassValue<FieldIndex> CACHE = new ClassValue<FieldIndex>() {
+        @Override
+        protected FieldIndex computeValue(Class<?> clazz) {
+            return new FieldIndex(clazz);
+        }
+    };
+
+    /**
+     * An empty list of fields.
+     */
+    private static final Field[] NONE = new Field[0];
+
+    /**
+     * The accessible instance fields of the class and its superclasses.
+     */
+    private final Field[] accessibleFields;
+
+    /**
+     * The indexed class.
+     */
+    private final Class<?> clazz;
+
+    /**
+     * The instance fields of the class and its superclasses.
+     */
+    private final Field[] instanceFields;
+
+    /**
+     * The accessible instance fields that hold references to other objects.
+     */
+    private final Field[] referenceFields;
+
+    /**
+     * The accessible, non-final static fields declared by the class.
+     */
+    private final Field[] staticFields;
+
+    /**
+     * Indexes a class.
+     *
+     * @param clazz The class to index.
+     */
+    private FieldIndex(Class<?> clazz) {
+        List<Field> accessibles = new ArrayList<>();
+        List<Field> instances = new ArrayList<>();
+        List<Field> references = new ArrayList<>();
+        List<Field> statics = new ArrayList<>();
+
+        for (Field field : clazz.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+
+            if (Modifier.isStatic(modifiers)
+                && !Modifier.isFinal(modifiers)
+                && tryMakeAccessible(field)) {
+                statics.add(field);
+            }
+        }
+
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                instances.add(field);
+
+                if (tryMakeAccessible(field)) {
+                    accessibles.add(field);
+
+                    if (!field.getType().isPrimitive()) {
+                        references.add(field);
+                    }
+                }
+            }
+        }
+
+        this.accessibleFields = accessibles.toArray(NONE);
+        this.clazz = clazz;
+        this.instanceFields = instances.toArray(NONE);
+        this.referenceFields = references.toArray(NONE);
+        this.staticFields = statics.toArray(NONE);
+    }
+
+    /**
+     * Returns the index for a class.
+     *
+     * @param clazz The class.
+     *
+     * @return The index.
+     */
+    static FieldIndex of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * Returns the accessible instance fields of the class and its superclasses.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @return The fields.
+     */
+    Field[] getAccessibleFields() {
+        return accessibleFields;
+    }
+
+    /**
+     * Returns the indexed class.
+     *
+     * @return The class.
+     */
+    Class<?> getIndexedClass() {
+        return clazz;
+    }
+
+    /**
+     * Returns the instance fields of the class and its superclasses.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @return The fields.
+     */
+    Field[] getInstanceFields() {
+        return instanceFields;
+    }
+
+    /**
+     * Returns the accessible instance fields that hold references.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @return The fields.
+     */
+    Field[] getReferenceFields() {
+        return referenceFields;
+    }
+
+    /**
+     * Returns the accessible, non-final static fields declared by the class.
+     *
+     * <p>Static fields declared by superclasses are not included, since they belong to the
+     * superclass and are shared by all of its subclasses. The returned array is shared and must
+     * not be modified.</p>
+     *
+     * @return The fields.
+     */
+    Field[] getStaticFields() {
+        return staticFields;
+    }
+
+    /**
+     * Attempts to make a reflected object accessible.
+     *
+     * @param object The accessible object.
+     *
+     * @return Returns <code>true</code> if accessible, or <code>false</code> if not.
+     */
+    static boolean tryMakeAccessible(AccessibleObject object) {
+        try {
+            object.setAccessible(true);
+
+            return true;
+        } catch (RuntimeException cause) {
+            return false;
+        }
+    }
+}
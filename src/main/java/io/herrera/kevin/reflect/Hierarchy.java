@@ -0,0 +1,202 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the members of a class and of its supertypes.
+ *
+ * <p>The class and its superclasses are visited first, in the same order used by
+ * <code>Reflect.findField()</code>, followed by the interfaces they implement, breadth first. Each
+ * type is visited once, and only when the consumer of the stream asks for more members than the
+ * types already visited have declared, so operations like <code>findFirst()</code> and
+ * <code>anyMatch()</code> stop walking the hierarchy as soon as they are satisfied.</p>
+ *
+ * <p>The members of each type are cached for that type alone, so visiting a type never reflects
+ * its supertypes. Methods are taken from the {@link MethodIndex} of the type, while fields have
+ * their own cache, since the {@link FieldIndex} of a class also indexes all of its superclasses.
+ * No member is copied, so every stream returns the same instances. Members that cannot be made
+ * accessible are skipped.</p>
+ */
+final class Hierarchy {
+
+    /**
+     * The accessible fields declared by each type.
+     */
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+
+            for (Field field : type.getDeclaredFields()) {
+                if (FieldIndex.tryMakeAccessible(field)) {
+                    fields.add(field);
+                }
+            }
+
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    /**
+     * Prevents instantiation.
+     */
+    private Hierarchy() {
+    }
+
+    /**
+     * Streams the fields declared by a class and its supertypes.
+     *
+     * @param clazz The class.
+     *
+     * @return The fields.
+     */
+    static Stream<Field> fields(Class<?> clazz) {
+        return stream(clazz, FIELDS::get);
+    }
+
+    /**
+     * Streams the methods declared by a class and its supertypes.
+     *
+     * @param clazz The class.
+     *
+     * @return The methods.
+     */
+    static Stream<Method> methods(Class<?> clazz) {
+        return stream(clazz, type -> MethodIndex.of(type).getAccessibleMethods());
+    }
+
+    /**
+     * Streams the members declared by a class and its supertypes.
+     *
+     * @param <M>     The type of the members.
+     * @param clazz   The class.
+     * @param members The function that returns the members declared by a type.
+     *
+     * @return The members.
+     */
+    private static <M> Stream<M> stream(Class<?> clazz, Function<Class<?>, M[]> members) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new Members<>(clazz, members),
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED
+            ),
+            false
+        );
+    }
+
+    /**
+     * Iterates over the members of a class and its supertypes, one type at a time.
+     *
+     * @param <M> The type of the members.
+     */
+    private static final class Members<M> implements Iterator<M> {
+
+        /**
+         * The next class to visit, if any.
+         */
+        private Class<?> clazz;
+
+        /**
+         * The index of the next member of the current type.
+         */
+        private int index;
+
+        /**
+         * The interfaces left to visit.
+         */
+        private final Deque<Class<?>> interfaces = new ArrayDeque<>();
+
+        /**
+         * The members of the current type.
+         */
+        private M[] level;
+
+        /**
+         * The function that returns the members declared by a type.
+         */
+        private final Function<Class<?>, M[]> members;
+
+        /**
+         * The interfaces already queued.
+         */
+        private final Set<Class<?>> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * Creates an iterator.
+         *
+         * @param clazz   The class.
+         * @param members The function that returns the members declared by a type.
+         */
+        private Members(Class<?> clazz, Function<Class<?>, M[]> members) {
+            this.clazz = clazz;
+            this.members = members;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (level == null || index == level.length) {
+                Class<?> type = nextType();
+
+                if (type == null) {
+                    return false;
+                }
+
+                index = 0;
+                level = members.apply(type);
+            }
+
+            return true;
+        }
+
+        @Override
+        public M next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return level[index++];
+        }
+
+        /**
+         * Returns the next type to visit.
+         *
+         * @return The type, or <code>null</code> if all types were visited.
+         */
+        private Class<?> nextType() {
+            Class<?> type = clazz;
+
+            if (type != null) {
+                clazz = type.getSuperclass();
+            } else {
+                type = interfaces.poll();
+
+                if (type == null) {
+                    return null;
+                }
+            }
+
+            for (Class<?> parent : type.getInterfaces()) {
+                if (queued.add(parent)) {
+                    interfaces.add(parent);
+                }
+            }
+
+            return type;
+        }
+    }
+}
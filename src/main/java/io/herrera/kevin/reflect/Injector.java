@@ -0,0 +1,639 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+
+/**
+ * Populates the fields of many instances of a class from a source of values.
+ *
+ * <p>An injector is a plan compiled once for a class and a list of keys (e.g. the columns of a
+ * query). For each key, the plan holds the field it is written to, the converter applied to its
+ * values, its default value, and a method handle for the field. Populating an instance then only
+ * loops over the plan, without looking up or making accessible any field.</p>
+ *
+ * <p>A key is matched to the field with the same name or, if there is none, to the field with the
+ * same name once case and underscores are ignored (e.g. <code>user_name</code> matches
+ * <code>userName</code>). Keys without a matching field are ignored. Final and static fields are
+ * never written.</p>
+ *
+ * <p>Values are converted only if they are not already of the type of their field. A converter
+ * registered for the type of the field is used if there is one, and numbers are converted to other
+ * numeric types. Missing and <code>null</code> values are replaced by the default value of their
+ * field, or by the zero value of its type (e.g. <code>null</code>, <code>0</code>,
+ * <code>false</code>) if there is none.</p>
+ *
+ * <p>An injector is immutable and safe to share between threads.</p>
+ *
+ * @param <T> The type of the populated instances.
+ *
+ * @see Reflect#injector(Class)
+ */
+public final class Injector<T> {
+
+    /**
+     * The boxed type of each primitive type.
+     */
+    private static final Map<Class<?>, Class<?>> BOXES = new HashMap<>();
+
+    static {
+        BOXES.put(boolean.class, Boolean.class);
+        BOXES.put(byte.class, Byte.class);
+        BOXES.put(char.class, Character.class);
+        BOXES.put(double.class, Double.class);
+        BOXES.put(float.class, Float.class);
+        BOXES.put(int.class, Integer.class);
+        BOXES.put(long.class, Long.class);
+        BOXES.put(short.class, Short.class);
+    }
+
+    /**
+     * The populated class.
+     */
+    private final Class<T> clazz;
+
+    /**
+     * The targets of the plan.
+     */
+    private final Target[] targets;
+
+    /**
+     * Creates an injector.
+     *
+     * @param clazz   The populated class.
+     * @param targets The targets of the plan.
+     */
+    private Injector(Class<T> clazz, Target[] targets) {
+        this.clazz = clazz;
+        this.targets = targets;
+    }
+
+    /**
+     * Returns the boxed type of a type.
+     *
+     * @param type The type.
+     *
+     * @return The boxed type, or the type itself if it is not primitive.
+     */
+    private static Class<?> box(Class<?> type) {
+        return BOXES.getOrDefault(type, type);
+    }
+
+    /**
+     * Returns the fields written by the plan, in the order of their keys.
+     *
+     * <p>The fields are shared, so their accessibility must not be changed.</p>
+     *
+     * @return The fields.
+     */
+    public List<Field> getFields() {
+        List<Field> fields = new ArrayList<>(targets.length);
+
+        for (Target target : targets) {
+            fields.add(target.field);
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the populated class.
+     *
+     * @return The class.
+     */
+    public Class<T> getPopulatedClass() {
+        return clazz;
+    }
+
+    /**
+     * Populates an instance using a function that returns the value of a key.
+     *
+     * @param instance The instance.
+     * @param source   The function.
+     *
+     * @return The instance.
+     */
+    public T inject(T instance, Function<String, ?> source) {
+        Objects.requireNonNull(instance, "The instance is required.");
+
+        for (Target target : targets) {
+            target.write(instance, source.apply(target.key));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Populates an instance using the values of a map.
+     *
+     * @param instance The instance.
+     * @param source   The map.
+     *
+     * @return The instance.
+     */
+    public T inject(T instance, Map<String, ?> source) {
+        return inject(instance, source::get);
+    }
+
+    /**
+     * Populates an instance using the current row of a result set.
+     *
+     * <p>The values are read by column index, so the injector must have been built using the
+     * metadata of the result set (or with the column labels in the same order). Primitive fields
+     * without a converter are read using the primitive getters of the result set.</p>
+     *
+     * @param instance The instance.
+     * @param row      The result set.
+     *
+     * @return The instance.
+     */
+    public T inject(T instance, ResultSet row) {
+        Objects.requireNonNull(instance, "The instance is required.");
+
+        for (Target target : targets) {
+            target.read(instance, row);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Creates and populates an instance for each map.
+     *
+     * @param factory The factory used to create the instances.
+     * @param rows    The maps.
+     *
+     * @return The populated instances.
+     */
+    public List<T> injectAll(
+        Supplier<? extends T> factory,
+        Iterable<? extends Map<String, ?>> rows
+    ) {
+        List<T> instances = new ArrayList<>();
+
+        for (Map<String, ?> row : rows) {
+            instances.add(inject(factory.get(), row));
+        }
+
+        return instances;
+    }
+
+    /**
+     * Creates and populates an instance for each remaining row of a result set.
+     *
+     * @param factory The factory used to create the instances.
+     * @param rows    The result set.
+     *
+     * @return The populated instances.
+     *
+     * @see #inject(Object, ResultSet)
+     */
+    @SneakyThrows
+    public List<T> injectAll(Supplier<? extends T> factory, ResultSet rows) {
+        List<T> instances = new ArrayList<>();
+
+        while (rows.next()) {
+            instances.add(inject(factory.get(), rows));
+        }
+
+        return instances;
+    }
+
+    /**
+     * Normalizes a name so that it can be matched regardless of case and underscores.
+     *
+     * @param name The name.
+     *
+     * @return The normalized name.
+     */
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates a builder for an injector.
+     *
+     * @param <T>   The type of the populated instances.
+     * @param clazz The populated class.
+     *
+     * @return The builder.
+     */
+    static <T> Builder<T> of(Class<T> clazz) {
+        return new Builder<>(Objects.requireNonNull(clazz, "The class is required."));
+    }
+
+    /**
+     * Creates an injector.
+     *
+     * @param <T> The type of the populated instances.
+     */
+    public static final class Builder<T> {
+
+        /**
+         * The populated class.
+         */
+        private final Class<T> clazz;
+
+        /**
+         * The converters for each boxed type.
+         */
+        private final Map<Class<?>, Function<Object, ?>> converters = new HashMap<>();
+
+        /**
+         * The default values for each field name.
+         */
+        private final Map<String, Object> defaults = new HashMap<>();
+
+        /**
+         * The explicit field name for each key.
+         */
+        private final Map<String, String> mappings = new HashMap<>();
+
+        /**
+         * Creates a builder.
+         *
+         * @param clazz The populated class.
+         */
+        private Builder(Class<T> clazz) {
+            this.clazz = clazz;
+        }
+
+        /**
+         * Creates an injector that populates every writable field using its name as the key.
+         *
+         * @return The injector.
+         */
+        public Injector<T> build() {
+            List<String> keys = new ArrayList<>();
+
+            for (Field field : FieldIndex.of(clazz).getAccessibleFields()) {
+                if (!Modifier.isFinal(field.getModifiers()) && !keys.contains(field.getName())) {
+                    keys.add(field.getName());
+                }
+            }
+
+            return build(keys.toArray(new String[0]));
+        }
+
+        /**
+         * Creates an injector for the columns of a result set.
+         *
+         * @param metadata The metadata of the result set.
+         *
+         * @return The injector.
+         */
+        @SneakyThrows
+        public Injector<T> build(ResultSetMetaData metadata) {
+            String[] keys = new String[metadata.getColumnCount()];
+
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = metadata.getColumnLabel(i + 1);
+            }
+
+            return build(keys);
+        }
+
+        /**
+         * Creates an injector for a list of keys.
+         *
+         * @param keys The keys.
+         *
+         * @return The injector.
+         */
+        public Injector<T> build(String... keys) {
+            Map<String, Field> exact = new HashMap<>();
+            Map<String, Field> normalized = new HashMap<>();
+            List<Target> targets = new ArrayList<>();
+
+            for (Field field : FieldIndex.of(clazz).getAccessibleFields()) {
+                exact.putIfAbsent(field.getName(), field);
+                normalized.putIfAbsent(normalize(field.getName()), field);
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                String mapped = mappings.get(keys[i]);
+                Field field;
+
+                if (mapped != null) {
+                    field = exact.get(mapped);
+
+                    if (field == null) {
+                        throw new IllegalArgumentException(
+                            String.format("The field \"%s\" does not exist.", mapped)
+                        );
+                    }
+                } else {
+                    field = exact.getOrDefault(keys[i], normalized.get(normalize(keys[i])));
+                }
+
+                if (field == null) {
+                    continue;
+                }
+
+                if (Modifier.isFinal(field.getModifiers())) {
+                    if (mapped == null) {
+                        continue;
+                    }
+
+                    throw new IllegalArgumentException(
+                        String.format("The field \"%s\" is final.", mapped)
+                    );
+                }
+
+                targets.add(new Target(keys[i], i + 1, field, this));
+            }
+
+            return new Injector<>(clazz, targets.toArray(new Target[0]));
+        }
+
+        /**
+         * Registers a converter for the values of fields of a type.
+         *
+         * <p>The converter is only given values that are not <code>null</code> and are not
+         * already of the type. A converter registered for a primitive type is also used for its
+         * boxed type, and vice versa.</p>
+         *
+         * @param <V>       The type.
+         * @param type      The type.
+         * @param converter The converter.
+         *
+         * @return The builder.
+         */
+        public <V> Builder<T> converter(Class<V> type, Function<Object, ? extends V> converter) {
+            converters.put(
+                box(Objects.requireNonNull(type, "The type is required.")),
+                Objects.requireNonNull(converter, "The converter is required.")
+            );
+
+            return this;
+        }
+
+        /**
+         * Sets the value used for a field when its value is missing or <code>null</code>.
+         *
+         * @param field The name of the field.
+         * @param value The default value.
+         *
+         * @return The builder.
+         */
+        public Builder<T> defaultValue(String field, Object value) {
+            defaults.put(Objects.requireNonNull(field, "The field name is required."), value);
+
+            return this;
+        }
+
+        /**
+         * Maps a key to a field with a different name.
+         *
+         * @param key   The key.
+         * @param field The name of the field.
+         *
+         * @return The builder.
+         */
+        public Builder<T> map(String key, String field) {
+            mappings.put(
+                Objects.requireNonNull(key, "The key is required."),
+                Objects.requireNonNull(field, "The field name is required.")
+            );
+
+            return this;
+        }
+    }
+
+    /**
+     * How a value is read from a result set and written to a field.
+     */
+    private enum Kind {
+        BOOLEAN,
+        DOUBLE,
+        INT,
+        LONG,
+        OBJECT
+    }
+
+    /**
+     * A field populated by the plan.
+     */
+    private static final class Target {
+
+        /**
+         * The type of the values, boxed.
+         */
+        private final Class<?> boxed;
+
+        /**
+         * The index of the column in a result set.
+         */
+        private final int column;
+
+        /**
+         * The converter, if any.
+         */
+        private final Function<Object, ?> converter;
+
+        /**
+         * The value used when the value is missing or <code>null</code>.
+         */
+        private final Object defaultValue;
+
+        /**
+         * The field.
+         */
+        private final Field field;
+
+        /**
+         * The key of the values.
+         */
+        private final String key;
+
+        /**
+         * How the value is read from a result set.
+         */
+        private final Kind kind;
+
+        /**
+         * The setter handle for boxed values.
+         */
+        private final MethodHandle object;
+
+        /**
+         * The setter handle for primitive values, if any.
+         */
+        private final MethodHandle primitive;
+
+        /**
+         * Creates a target.
+         *
+         * @param key     The key of the values.
+         * @param column  The index of the column in a result set.
+         * @param field   The field.
+         * @param builder The builder.
+         */
+        @SneakyThrows({ IllegalAccessException.class })
+        private Target(String key, int column, Field field, Builder<?> builder) {
+            Class<?> type = field.getType();
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            Function<Object, ?> converter = builder.converters.get(box(type));
+
+            if (converter == null && Number.class.isAssignableFrom(box(type))) {
+                converter = numeric(box(type));
+            }
+
+            this.boxed = box(type);
+            this.column = column;
+            this.converter = converter;
+            this.field = field;
+            this.key = key;
+            this.object = setter.asType(
+                MethodType.methodType(void.class, Object.class, Object.class)
+            );
+
+            if (builder.converters.containsKey(boxed) || !type.isPrimitive()) {
+                this.kind = Kind.OBJECT;
+            } else if (type == boolean.class) {
+                this.kind = Kind.BOOLEAN;
+            } else if (type == double.class) {
+                this.kind = Kind.DOUBLE;
+            } else if (type == int.class) {
+                this.kind = Kind.INT;
+            } else if (type == long.class) {
+                this.kind = Kind.LONG;
+            } else {
+                this.kind = Kind.OBJECT;
+            }
+
+            this.primitive = kind == Kind.OBJECT
+                ? null
+                : setter.asType(MethodType.methodType(void.class, Object.class, type));
+
+            Object value = builder.defaults.get(field.getName());
+
+            if (value != null) {
+                this.defaultValue = convert(value);
+            } else if (type.isPrimitive()) {
+                this.defaultValue = Array.get(Array.newInstance(type, 1), 0);
+            } else {
+                this.defaultValue = null;
+            }
+        }
+
+        /**
+         * Converts a value to the type of the field, if needed.
+         *
+         * @param value The value.
+         *
+         * @return The converted value.
+         */
+        private Object convert(Object value) {
+            if (converter == null || boxed.isInstance(value)) {
+                return value;
+            }
+
+            return converter.apply(value);
+        }
+
+        /**
+         * Returns the converter from numbers to a numeric type.
+         *
+         * @param type The boxed numeric type.
+         *
+         * @return The converter, or <code>null</code> if the type is not supported.
+         */
+        private static Function<Object, ?> numeric(Class<?> type) {
+            if (type == Byte.class) {
+                return value -> ((Number) value).byteValue();
+            } else if (type == Double.class) {
+                return value -> ((Number) value).doubleValue();
+            } else if (type == Float.class) {
+                return value -> ((Number) value).floatValue();
+            } else if (type == Integer.class) {
+                return value -> ((Number) value).intValue();
+            } else if (type == Long.class) {
+                return value -> ((Number) value).longValue();
+            } else if (type == Short.class) {
+                return value -> ((Number) value).shortValue();
+            }
+
+            return null;
+        }
+
+        /**
+         * Reads the value of the field from the current row of a result set.
+         *
+         * @param instance The instance.
+         * @param row      The result set.
+         */
+        @SneakyThrows
+        private void read(Object instance, ResultSet row) {
+            switch (kind) {
+                case BOOLEAN:
+                    boolean bool = row.getBoolean(column);
+
+                    if (row.wasNull()) {
+                        write(instance, null);
+                    } else {
+                        primitive.invokeExact(instance, bool);
+                    }
+
+                    break;
+                case DOUBLE:
+                    double real = row.getDouble(column);
+
+                    if (row.wasNull()) {
+                        write(instance, null);
+                    } else {
+                        primitive.invokeExact(instance, real);
+                    }
+
+                    break;
+                case INT:
+                    int integer = row.getInt(column);
+
+                    if (row.wasNull()) {
+                        write(instance, null);
+                    } else {
+                        primitive.invokeExact(instance, integer);
+                    }
+
+                    break;
+                case LONG:
+                    long longer = row.getLong(column);
+
+                    if (row.wasNull()) {
+                        write(instance, null);
+                    } else {
+                        primitive.invokeExact(instance, longer);
+                    }
+
+                    break;
+                default:
+                    write(instance, row.getObject(column));
+            }
+        }
+
+        /**
+         * Writes a value to the field.
+         *
+         * @param instance The instance.
+         * @param value    The value.
+         */
+        @SneakyThrows
+        private void write(Object instance, Object value) {
+            object.invokeExact(instance, value == null ? defaultValue : convert(value));
+        }
+    }
+}
@@ -0,0 +1,759 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.SneakyThrows;
+
+/**
+ * Invokes a method and caches its result by target and arguments.
+ *
+ * <p>The method is expected to be pure: calling it again with the same target and equal
+ * arguments must return an equal result. Targets are compared by identity and arguments using
+ * <code>equals()</code>. The cache is split into stripes, each guarded by its own lock, and the
+ * method itself is always invoked outside of the lock. If several threads request the same
+ * result at the same time, the method is invoked once and the other threads wait for it.</p>
+ *
+ * <p>If the method throws an exception, the exception is rethrown to every waiting thread and
+ * nothing is cached.</p>
+ *
+ * @see Reflect#memoize(Method)
+ */
+public final class MemoizedMethod {
+
+    /**
+     * The arguments used when none are given.
+     */
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    /**
+     * The time to live of a result, in nanoseconds, or zero if results never expire.
+     */
+    private final long expireNanos;
+
+    /**
+     * The mask used to select a stripe.
+     */
+    private final int mask;
+
+    /**
+     * The method.
+     */
+    private final Method method;
+
+    /**
+     * The queue of targets that were garbage collected.
+     */
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * The stripes of the cache.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * Reference targets weakly?
+     */
+    private final boolean weakTargets;
+
+    /**
+     * Creates a memoized method.
+     *
+     * @param builder The configuration.
+     */
+    private MemoizedMethod(Builder builder) {
+        int count = builder.stripes == 1 ? 1 : Integer.highestOneBit(builder.stripes - 1) << 1;
+
+        // Every stripe must be able to hold at least one result, and the capacities of the
+        // stripes must add up to exactly the maximum size.
+        count = (int) Math.min(count, Long.highestOneBit(builder.maximumSize));
+
+        long capacity = builder.maximumSize / count;
+        long remainder = builder.maximumSize % count;
+
+        // An unbounded cache never evicts, so it has no use for a frequency sketch.
+        Eviction eviction = builder.maximumSize == Long.MAX_VALUE ? Eviction.LRU : builder.eviction;
+
+        this.expireNanos = builder.expireAfterWrite == null
+            ? 0
+            : builder.expireAfterWrite.toNanos();
+        this.mask = count - 1;
+        this.method = builder.method;
+        this.stripes = new Stripe[count];
+        this.weakTargets = builder.weakTargets;
+
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity + (i < remainder ? 1 : 0), eviction);
+        }
+    }
+
+    /**
+     * Waits for a result.
+     *
+     * @param future The future result.
+     *
+     * @return The result.
+     */
+    @SneakyThrows
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException cause) {
+            throw cause.getCause();
+        }
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @param target    The object to invoke the method on.
+     * @param arguments The arguments for the method.
+     *
+     * @return The result of the method.
+     */
+    @SneakyThrows
+    private Object call(Object target, Object[] arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException cause) {
+            throw cause.getCause();
+        }
+    }
+
+    /**
+     * Returns the method.
+     *
+     * @return The method.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Discards every cached result.
+     */
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached result of the method, invoking it if necessary.
+     *
+     * @param <R>       The type of the method result.
+     * @param target    The object to invoke the method on, or <code>null</code> if static.
+     * @param arguments The arguments for the method.
+     *
+     * @return The result of the method.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R invoke(Object target, Object... arguments) {
+        purge();
+
+        Key probe = new Key(target, arguments == null ? NO_ARGUMENTS : arguments);
+        Stripe stripe = stripes[probe.hash & mask];
+        long now = System.nanoTime();
+        CompletableFuture<Object> future;
+        boolean isAdmitted = false;
+        boolean isOwner = false;
+        Key stored = null;
+
+        synchronized (stripe) {
+            Entry entry = stripe.entries.get(probe);
+
+            if (entry != null && expireNanos > 0 && now - entry.written >= expireNanos) {
+                stripe.entries.remove(probe);
+
+                entry = null;
+            }
+
+            if (stripe.sketch != null) {
+                stripe.sketch.increment(probe.hash);
+            }
+
+            future = entry == null ? stripe.rejected.get(probe) : entry.future;
+
+            if (future == null) {
+                future = new CompletableFuture<>();
+                isAdmitted = stripe.admit(probe);
+                isOwner = true;
+                stored = probe.store(weakTargets ? queue : null);
+
+                if (isAdmitted) {
+                    stripe.entries.put(stored, new Entry(future, now));
+                    stripe.evict();
+                } else {
+                    // Not cached, but kept until computed so that identical calls share it.
+                    stripe.rejected.put(stored, future);
+                }
+            }
+        }
+
+        if (!isOwner) {
+            return (R) await(future);
+        }
+
+        try {
+            future.complete(call(target, probe.arguments));
+        } catch (Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+
+        if (!isAdmitted || future.isCompletedExceptionally()) {
+            synchronized (stripe) {
+                Entry entry = stripe.entries.get(stored);
+
+                if (entry != null && entry.future == future) {
+                    stripe.entries.remove(stored);
+                }
+
+                stripe.rejected.remove(stored);
+            }
+        }
+
+        return (R) await(future);
+    }
+
+    /**
+     * Creates a builder for a memoized method.
+     *
+     * @param method The method.
+     *
+     * @return The builder.
+     */
+    static Builder of(Method method) {
+        return new Builder(Objects.requireNonNull(method, "The method is required."));
+    }
+
+    /**
+     * Discards the cached results of targets that were garbage collected.
+     */
+    private void purge() {
+        if (queue.poll() == null) {
+            return;
+        }
+
+        while (queue.poll() != null) {
+            // Drain the queue, since every stripe is purged at once.
+        }
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.entries.keySet().removeIf(Key::isCleared);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return The number of results.
+     */
+    public long size() {
+        long size = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * The policies used to choose which results are cached when the cache is full.
+     */
+    public enum Eviction {
+
+        /**
+         * Evict the least recently used result to make room for a new one.
+         */
+        LRU,
+
+        /**
+         * Only cache a new result if it has been requested more often than the least recently
+         * used result, which is then evicted. Request frequencies are estimated using a small,
+         * periodically aged sketch, so results that are requested once do not displace results
+         * that are requested often. A result that is not cached is still shared by the calls that
+         * request it while it is being computed. This policy only applies if a maximum size is
+         * set, since an unbounded cache never evicts.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * Configures a memoized method.
+     */
+    public static final class Builder {
+
+        /**
+         * The eviction policy.
+         */
+        private Eviction eviction = Eviction.LRU;
+
+        /**
+         * The time to live of a result, if any.
+         */
+        private Duration expireAfterWrite;
+
+        /**
+         * The maximum number of cached results.
+         */
+        private long maximumSize = Long.MAX_VALUE;
+
+        /**
+         * The method.
+         */
+        private final Method method;
+
+        /**
+         * The number of stripes.
+         */
+        private int stripes = 16;
+
+        /**
+         * Reference targets weakly?
+         */
+        private boolean weakTargets;
+
+        /**
+         * Creates a builder.
+         *
+         * @param method The method.
+         */
+        private Builder(Method method) {
+            this.method = method;
+        }
+
+        /**
+         * Creates the memoized method.
+         *
+         * @return The memoized method.
+         */
+        public MemoizedMethod build() {
+            return new MemoizedMethod(this);
+        }
+
+        /**
+         * Sets the policy used to choose which results are cached when the cache is full.
+         *
+         * @param eviction The eviction policy.
+         *
+         * @return The builder.
+         */
+        public Builder eviction(Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction, "The eviction policy is required.");
+
+            return this;
+        }
+
+        /**
+         * Sets how long a result is cached after the method is invoked.
+         *
+         * @param duration The time to live.
+         *
+         * @return The builder.
+         */
+        public Builder expireAfterWrite(Duration duration) {
+            Objects.requireNonNull(duration, "The duration is required.");
+
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("The duration must be positive.");
+            }
+
+            this.expireAfterWrite = duration;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * <p>The limit is divided as evenly as possible between the stripes, so a stripe may evict
+         * a result while the cache as a whole is not full, but the cache never holds more results
+         * than the limit. If the limit is lower than the number of stripes, fewer stripes are
+         * used.</p>
+         *
+         * @param maximumSize The maximum number of results.
+         *
+         * @return The builder.
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be at least 1.");
+            }
+
+            this.maximumSize = maximumSize;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of stripes, which is rounded up to a power of two.
+         *
+         * <p>More stripes reduce contention between threads, at the cost of memory.</p>
+         *
+         * @param stripes The number of stripes.
+         *
+         * @return The builder.
+         */
+        public Builder stripes(int stripes) {
+            if (stripes < 1 || stripes > 1 << 16) {
+                throw new IllegalArgumentException("The number of stripes must be 1 to 65536.");
+            }
+
+            this.stripes = stripes;
+
+            return this;
+        }
+
+        /**
+         * References targets weakly, so that caching their results does not prevent them from
+         * being garbage collected.
+         *
+         * @return The builder.
+         */
+        public Builder weakTargets() {
+            this.weakTargets = true;
+
+            return this;
+        }
+    }
+
+    /**
+     * A cached result.
+     */
+    private static final class Entry {
+
+        /**
+         * The result, which may still be computed.
+         */
+        private final CompletableFuture<Object> future;
+
+        /**
+         * When the method was invoked.
+         */
+        private final long written;
+
+        /**
+         * Creates an entry.
+         *
+         * @param future  The result.
+         * @param written When the method was invoked.
+         */
+        private Entry(CompletableFuture<Object> future, long written) {
+            this.future = future;
+            this.written = written;
+        }
+    }
+
+    /**
+     * The target and arguments of an invocation.
+     */
+    private static final class Key {
+
+        /**
+         * The arguments.
+         */
+        private final Object[] arguments;
+
+        /**
+         * The hash code.
+         */
+        private final int hash;
+
+        /**
+         * The target, or a weak reference to the target.
+         */
+        private final Object target;
+
+        /**
+         * Creates a key.
+         *
+         * @param target    The target.
+         * @param arguments The arguments.
+         */
+        private Key(Object target, Object[] arguments) {
+            int hash = 31 * System.identityHashCode(target) + Arrays.hashCode(arguments);
+
+            this.arguments = arguments;
+            this.hash = hash ^ (hash >>> 16);
+            this.target = target;
+        }
+
+        /**
+         * Creates a key.
+         *
+         * @param target    The target.
+         * @param arguments The arguments.
+         * @param hash      The hash code.
+         */
+        private Key(Object target, Object[] arguments, int hash) {
+            this.arguments = arguments;
+            this.hash = hash;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) other;
+
+            return hash == key.hash
+                && !isCleared()
+                && !key.isCleared()
+                && getTarget() == key.getTarget()
+                && Arrays.equals(arguments, key.arguments);
+        }
+
+        /**
+         * Returns the target.
+         *
+         * @return The target, or <code>null</code> if static or collected.
+         */
+        private Object getTarget() {
+            return target instanceof WeakTarget ? ((WeakTarget) target).get() : target;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Checks if the target was garbage collected.
+         *
+         * @return Returns <code>true</code> if collected, or <code>false</code> if not.
+         */
+        private boolean isCleared() {
+            return target instanceof WeakTarget && ((WeakTarget) target).get() == null;
+        }
+
+        /**
+         * Creates a copy of the key that is safe to store.
+         *
+         * @param queue The queue for weak targets, or <code>null</code> for strong targets.
+         *
+         * @return The stored key.
+         */
+        private Key store(ReferenceQueue<Object> queue) {
+            Object stored = target;
+
+            if (queue != null && target != null) {
+                stored = new WeakTarget(target, queue);
+            }
+
+            return new Key(stored, arguments.clone(), hash);
+        }
+    }
+
+    /**
+     * Estimates how often keys are requested.
+     *
+     * <p>This is a count-min sketch with four rows sharing one table of counters. Counters stop at
+     * 15, and all counters are halved once the number of increments reaches ten times the
+     * capacity, so the estimates favor recent requests. The table has about four counters per
+     * cached result, up to a limit, so very large stripes share counters between more keys.</p>
+     */
+    private static final class Sketch {
+
+        /**
+         * The largest capacity the table is sized for, which limits the table to 1 MiB.
+         */
+        private static final int MAXIMUM_CAPACITY = 1 << 18;
+
+        /**
+         * The seeds used to derive the index of each row.
+         */
+        private static final int[] SEEDS = { 0x97cb3127, 0x0ca2a1a5, 0x2f4ad1b7, 0x6b2a9e3d };
+
+        /**
+         * The number of increments before the counters are halved.
+         */
+        private final long sampleSize;
+
+        /**
+         * The number of increments since the counters were halved.
+         */
+        private long size;
+
+        /**
+         * The counters.
+         */
+        private final byte[] table;
+
+        /**
+         * Creates a sketch.
+         *
+         * @param capacity The capacity of the stripe.
+         */
+        private Sketch(long capacity) {
+            long bounded = Math.max(16, Math.min(capacity, MAXIMUM_CAPACITY));
+
+            this.sampleSize = 10 * bounded;
+            this.table = new byte[Integer.highestOneBit((int) bounded * 4)];
+        }
+
+        /**
+         * Estimates the frequency of a key.
+         *
+         * @param hash The hash code of the key.
+         *
+         * @return The estimated frequency.
+         */
+        private int frequency(int hash) {
+            int frequency = Integer.MAX_VALUE;
+
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+            }
+
+            return frequency;
+        }
+
+        /**
+         * Increments the frequency of a key.
+         *
+         * @param hash The hash code of the key.
+         */
+        private void increment(int hash) {
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+
+                if (table[index] < 15) {
+                    table[index]++;
+                }
+            }
+
+            if (++size >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+
+                size /= 2;
+            }
+        }
+
+        /**
+         * Returns the index of the counter of a key in a row.
+         *
+         * @param hash The hash code of the key.
+         * @param seed The seed of the row.
+         *
+         * @return The index.
+         */
+        private int indexOf(int hash, int seed) {
+            int index = hash * seed;
+
+            index += index >>> 16;
+
+            return index & (table.length - 1);
+        }
+    }
+
+    /**
+     * A stripe of the cache.
+     */
+    private static final class Stripe {
+
+        /**
+         * The maximum number of cached results.
+         */
+        private final long capacity;
+
+        /**
+         * The cached results, least recently used first.
+         */
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * The results being computed that were not admitted to the cache.
+         */
+        private final Map<Key, CompletableFuture<Object>> rejected = new HashMap<>();
+
+        /**
+         * The frequency sketch, if the eviction policy uses one.
+         */
+        private final Sketch sketch;
+
+        /**
+         * Creates a stripe.
+         *
+         * @param capacity The maximum number of cached results.
+         * @param eviction The eviction policy.
+         */
+        private Stripe(long capacity, Eviction eviction) {
+            this.capacity = capacity;
+            this.sketch = eviction == Eviction.TINY_LFU ? new Sketch(capacity) : null;
+        }
+
+        /**
+         * Decides if a new result is cached.
+         *
+         * @param candidate The key of the new result.
+         *
+         * @return Returns <code>true</code> if cached, or <code>false</code> if not.
+         */
+        private boolean admit(Key candidate) {
+            if (sketch == null || entries.size() < capacity) {
+                return true;
+            }
+
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            Key victim = iterator.next().getKey();
+
+            if (sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                iterator.remove();
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Evicts the least recently used results until the stripe is within its capacity.
+         */
+        private void evict() {
+            Iterator<Key> iterator = entries.keySet().iterator();
+
+            while (entries.size() > capacity) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a target.
+     */
+    private static final class WeakTarget extends WeakReference<Object> {
+
+        /**
+         * Creates a weak reference.
+         *
+         * @param target The target.
+         * @param queue  The queue to register with.
+         */
+        private WeakTarget(Object target, ReferenceQueue<Object> queue) {
+            super(target, queue);
+        }
+    }
+}
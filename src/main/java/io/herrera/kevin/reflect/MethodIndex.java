@@ -0,0 +1,75 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches the methods declared by a class.
+ *
+ * <p>Unlike {@link FieldIndex}, the index only covers the methods declared by the class itself,
+ * in the order returned by <code>Class.getDeclaredMethods()</code>. Callers that need the whole
+ * hierarchy walk the superclasses and use the index of each one, which lets them stop as soon as
+ * they have found what they need. Methods that cannot be made accessible are skipped.</p>
+ */
+final class MethodIndex {
+
+    /**
+     * The index for each class.
+     */
+    private static final ClassValue<MethodIndex> CACHE = new ClassValue<MethodIndex>() {
+        @Override
+        protected MethodIndex computeValue(Class<?> clazz) {
+            return new MethodIndex(clazz);
+        }
+    };
+
+    /**
+     * An empty list of methods.
+     */
+    private static final Method[] NONE = new Method[0];
+
+    /**
+     * The accessible methods declared by the class.
+     */
+    private final Method[] accessibleMethods;
+
+    /**
+     * Indexes a class.
+     *
+     * @param clazz The class to index.
+     */
+    private MethodIndex(Class<?> clazz) {
+        List<Method> accessibles = new ArrayList<>();
+
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (FieldIndex.tryMakeAccessible(method)) {
+                accessibles.add(method);
+            }
+        }
+
+        this.accessibleMethods = accessibles.toArray(NONE);
+    }
+
+    /**
+     * Returns the index for a class.
+     *
+     * @param clazz The class.
+     *
+     * @return The index.
+     */
+    static MethodIndex of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * Returns the accessible methods declared by the class.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @return The methods.
+     */
+    Method[] getAccessibleMethods() {
+        return accessibleMethods;
+    }
+}
@@ -0,0 +1,177 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.SneakyThrows;
+
+/**
+ * Walks the graph of objects reachable from a root object.
+ *
+ * <p>The walk follows every instance field that holds a reference, including those declared by
+ * superclasses, and every element of object arrays. Each object is visited exactly once, even if
+ * it is referenced multiple times or is part of a cycle. The walk is iterative, so deep graphs
+ * (e.g. long linked lists) will not overflow the stack.</p>
+ *
+ * <p>Instances of <code>Class</code> are visited but never descended into, since doing so would
+ * walk the class loader and everything it has loaded. Fields that cannot be made accessible (e.g.
+ * the private fields of JDK classes on Java 9 and later) are read through
+ * <code>sun.misc.Unsafe</code> instead, so that JDK collections and strings are walked like any
+ * other object. If such a field cannot be read that way either, the walk fails rather than
+ * silently skipping part of the graph.</p>
+ */
+public final class ObjectGraph {
+
+    /**
+     * An empty list of offsets.
+     */
+    private static final long[] NONE = new long[0];
+
+    /**
+     * The handle used to read a reference at an offset, if available.
+     */
+    private static final MethodHandle GET_OBJECT = UnsafeAccess.find(
+        "getObject",
+        Object.class,
+        long.class
+    );
+
+    /**
+     * The handle used to find the offset of a field, if available.
+     */
+    private static final MethodHandle OBJECT_FIELD_OFFSET = UnsafeAccess.find(
+        "objectFieldOffset",
+        Field.class
+    );
+
+    /**
+     * The offsets of the inaccessible reference fields of each class.
+     */
+    private static final ClassValue<long[]> OFFSETS = new ClassValue<long[]>() {
+        @Override
+        protected long[] computeValue(Class<?> clazz) {
+            return computeOffsets(clazz);
+        }
+    };
+
+    /**
+     * Prevents instantiation.
+     */
+    private ObjectGraph() {
+    }
+
+    /**
+     * Finds the offsets of the reference fields of a class that cannot be made accessible.
+     *
+     * @param clazz The class.
+     *
+     * @return The offsets.
+     *
+     * @throws IllegalStateException If a field cannot be read.
+     */
+    @SneakyThrows
+    private static long[] computeOffsets(Class<?> clazz) {
+        FieldIndex index = FieldIndex.of(clazz);
+        List<Field> references = Arrays.asList(index.getReferenceFields());
+        long[] offsets = new long[index.getInstanceFields().length];
+        int count = 0;
+
+        for (Field field : index.getInstanceFields()) {
+            if (field.getType().isPrimitive() || references.contains(field)) {
+                continue;
+            }
+
+            if (GET_OBJECT == null || OBJECT_FIELD_OFFSET == null) {
+                throw new IllegalStateException(
+                    "The field " + field + " cannot be made accessible or read."
+                );
+            }
+
+            try {
+                offsets[count++] = (long) OBJECT_FIELD_OFFSET.invokeExact(field);
+            } catch (UnsupportedOperationException cause) {
+                throw new IllegalStateException(
+                    "The field " + field + " cannot be made accessible or read.",
+                    cause
+                );
+            }
+        }
+
+        return count == 0 ? NONE : Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Walks the graph of objects reachable from a root object.
+     *
+     * <p>The visitor is called once for every reachable object, starting with the root. If the
+     * visitor returns <code>false</code>, the references held by the object are not followed.
+     * Since every object is only visited once, those references are not followed through any
+     * other path that leads to the same object either.</p>
+     *
+     * @param root    The root object.
+     * @param visitor The visitor for each object.
+     *
+     * @return The number of objects visited.
+     *
+     * @throws IllegalStateException If a field in the graph cannot be read.
+     */
+    @SneakyThrows
+    public static int walk(Object root, Predicate<Object> visitor) {
+        Objects.requireNonNull(root, "The root object is required.");
+        Objects.requireNonNull(visitor, "The visitor is required.");
+
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+
+        visited.add(root);
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+
+            if (!visitor.test(object) || object instanceof Class) {
+                continue;
+            }
+
+            Class<?> clazz = object.getClass();
+
+            if (clazz.isArray()) {
+                if (!clazz.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) object) {
+                        if (element != null && visited.add(element)) {
+                            pending.push(element);
+                        }
+                    }
+                }
+
+                continue;
+            }
+
+            for (Field field : FieldIndex.of(clazz).getReferenceFields()) {
+                Object value = field.get(object);
+
+                if (value != null && visited.add(value)) {
+                    pending.push(value);
+                }
+            }
+
+            for (long offset : OFFSETS.get(clazz)) {
+                Object value = (Object) GET_OBJECT.invokeExact(object, offset);
+
+                if (value != null && visited.add(value)) {
+                    pending.push(value);
+                }
+            }
+        }
+
+        return visited.size();
+    }
+}
@@ -0,0 +1,193 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Estimates the amount of memory used by objects.
+ *
+ * <p>The estimates follow the field layout rules of the HotSpot JVM: every object starts with a
+ * header, the fields of each class in the hierarchy are packed after the fields of its
+ * superclass, and the total size is padded to a multiple of 8 bytes. Whether references are
+ * compressed is inferred from the maximum heap size, so the numbers are estimates and not exact
+ * measurements. No instrumentation agent or heap dump is required.</p>
+ */
+public final class ObjectSize {
+
+    /**
+     * The object alignment, in bytes.
+     */
+    private static final int ALIGNMENT = 8;
+
+    /**
+     * The maximum heap size for which references are compressed by default.
+     */
+    private static final long COMPRESSED_LIMIT = 32L * 1024 * 1024 * 1024;
+
+    /**
+     * The size of an object header, in bytes.
+     */
+    private static final int HEADER_SIZE;
+
+    /**
+     * The size of a reference, in bytes.
+     */
+    private static final int REFERENCE_SIZE;
+
+    /**
+     * The shallow size of an instance of each class.
+     */
+    private static final ClassValue<Long> SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> clazz) {
+            return computeInstanceSize(clazz);
+        }
+    };
+
+    static {
+        boolean is64Bit = !"32".equals(System.getProperty("sun.arch.data.model"));
+        boolean isCompressed = Runtime.getRuntime().maxMemory() < COMPRESSED_LIMIT;
+
+        if (!is64Bit) {
+            HEADER_SIZE = 8;
+            REFERENCE_SIZE = 4;
+        } else if (isCompressed) {
+            HEADER_SIZE = 12;
+            REFERENCE_SIZE = 4;
+        } else {
+            HEADER_SIZE = 16;
+            REFERENCE_SIZE = 8;
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private ObjectSize() {
+    }
+
+    /**
+     * Pads a size to a multiple of the alignment.
+     *
+     * @param size      The size.
+     * @param alignment The alignment.
+     *
+     * @return The padded size.
+     */
+    private static long align(long size, int alignment) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    /**
+     * Computes the shallow size of an instance of a class.
+     *
+     * @param clazz The class.
+     *
+     * @return The size, in bytes.
+     */
+    private static long computeInstanceSize(Class<?> clazz) {
+        Field[] fields = FieldIndex.of(clazz).getInstanceFields();
+        long size = HEADER_SIZE;
+        int end = fields.length;
+
+        // Fields are indexed subclass first, so walk them backwards to lay out superclasses first.
+        while (end > 0) {
+            Class<?> declaring = fields[end - 1].getDeclaringClass();
+            int start = end;
+
+            while (start > 0 && fields[start - 1].getDeclaringClass() == declaring) {
+                start--;
+            }
+
+            size = align(size, REFERENCE_SIZE);
+
+            for (int i = start; i < end; i++) {
+                size += sizeOfType(fields[i].getType());
+            }
+
+            end = start;
+        }
+
+        return align(size, ALIGNMENT);
+    }
+
+    /**
+     * Estimates the deep size of an object.
+     *
+     * <p>The deep size is the sum of the shallow sizes of every object reachable from the given
+     * object, each counted once. Objects that are shared with other parts of the application
+     * (e.g. interned strings or enum constants) are included, so the result is an upper bound of
+     * the memory that would be freed if the object became unreachable.</p>
+     *
+     * @param object The object.
+     *
+     * @return The size, in bytes.
+     *
+     * @see ObjectGraph#walk(Object, java.util.function.Predicate)
+     */
+    public static long deepSizeOf(Object object) {
+        Objects.requireNonNull(object, "The object is required.");
+
+        long[] total = new long[1];
+
+        ObjectGraph.walk(object, visited -> {
+            if (!(visited instanceof Class)) {
+                total[0] += shallowSizeOf(visited);
+            }
+
+            return true;
+        });
+
+        return total[0];
+    }
+
+    /**
+     * Estimates the shallow size of an object.
+     *
+     * <p>The shallow size only includes the object itself: its header, its fields (references
+     * count as the size of the reference, not the referenced object), and padding. For arrays,
+     * the length and elements are included.</p>
+     *
+     * @param object The object.
+     *
+     * @return The size, in bytes.
+     */
+    public static long shallowSizeOf(Object object) {
+        Objects.requireNonNull(object, "The object is required.");
+
+        Class<?> clazz = object.getClass();
+
+        if (clazz.isArray()) {
+            long size = HEADER_SIZE + 4;
+
+            size = align(size, sizeOfType(clazz.getComponentType()));
+            size += (long) Array.getLength(object) * sizeOfType(clazz.getComponentType());
+
+            return align(size, ALIGNMENT);
+        }
+
+        return SIZES.get(clazz);
+    }
+
+    /**
+     * Returns the size of a field or array element of the given type.
+     *
+     * @param type The type.
+     *
+     * @return The size, in bytes.
+     */
+    private static int sizeOfType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_SIZE;
+        } else if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        }
+
+        return 1;
+    }
+}
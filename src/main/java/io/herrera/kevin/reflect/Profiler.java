@@ -0,0 +1,502 @@
+package io.herrera.kevin.reflect;
+
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes the cost of reflection to the code that calls <code>Reflect</code>.
+ *
+ * <p>When enabled, a random sample of the calls made to the <code>find*</code>,
+ * <code>get*</code>, <code>set*</code>, and <code>invoke*</code> methods of {@link Reflect} is
+ * recorded. For each sampled call, the first stack frame outside of this library and the JDK is
+ * found, so that calls made through templates, comparators, and the like are attributed to the
+ * code that uses them. The time spent looking up the member and the time spent using it are then
+ * added to the counters of that call site. The counters are striped, so recording does not block
+ * other threads.</p>
+ *
+ * <p>Profiling is disabled by default, in which case the cost is a single volatile read per
+ * call. Calls that throw an exception are not recorded.</p>
+ */
+public final class Profiler {
+
+    /**
+     * The counters of each call site.
+     */
+    private static final Map<Site, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * The prefixes of the names of JDK classes.
+     */
+    private static final String[] JDK = { "com.sun.", "java.", "javax.", "jdk.", "sun." };
+
+    /**
+     * Whether each class whose name starts with the package of this library belongs to it.
+     */
+    private static final Map<String, Boolean> LIBRARY = new ConcurrentHashMap<>();
+
+    /**
+     * The prefix of the names of the classes in this library.
+     */
+    private static final String PACKAGE = Profiler.class.getPackage().getName() + '.';
+
+    /**
+     * The average number of calls per sample, or zero if disabled.
+     */
+    private static volatile int interval;
+
+    /**
+     * Prevents instantiation.
+     */
+    private Profiler() {
+    }
+
+    /**
+     * Stops sampling calls.
+     *
+     * <p>The recorded samples are kept until {@link #reset()} is called.</p>
+     */
+    public static void disable() {
+        interval = 0;
+    }
+
+    /**
+     * Creates a report of the most expensive call sites.
+     *
+     * <p>Each line shows the rank, operation, and call site, followed by the number of sampled
+     * calls, the estimated number of calls, and the average lookup and invocation times of the
+     * sampled calls in nanoseconds.</p>
+     *
+     * @param limit The maximum number of call sites to include.
+     *
+     * @return The report.
+     */
+    public static String dump(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative.");
+        }
+
+        StringBuilder builder = new StringBuilder();
+        List<Entry> entries = report();
+        int rank = 0;
+
+        builder.append(
+            String.format(
+                "%4s  %-13s  %-60s  %9s  %12s  %10s  %10s%n",
+                "rank",
+                "operation",
+                "call site",
+                "samples",
+                "est. calls",
+                "lookup ns",
+                "invoke ns"
+            )
+        );
+
+        for (Entry entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            builder.append(
+                String.format(
+                    "%4d  %-13s  %-60s  %9d  %12d  %10d  %10d%n",
+                    ++rank,
+                    entry.getOperation(),
+                    entry.getCaller(),
+                    entry.getSamples(),
+                    entry.getEstimatedCalls(),
+                    entry.getLookupNanos() / entry.getSamples(),
+                    entry.getInvokeNanos() / entry.getSamples()
+                )
+            );
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Starts sampling calls.
+     *
+     * <p>On average, one out of every <code>interval</code> calls is sampled. An interval of 1
+     * samples every call, which is accurate but slow.</p>
+     *
+     * @param interval The average number of calls per sample.
+     */
+    public static void enable(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("The sample interval must be at least 1.");
+        }
+
+        Profiler.interval = interval;
+    }
+
+    /**
+     * Finds the first stack frame outside of this library and the JDK.
+     *
+     * @param frames The stack frames.
+     *
+     * @return The stack frame, or <code>null</code> if not found.
+     */
+    private static StackTraceElement findCaller(StackTraceElement[] frames) {
+        for (StackTraceElement frame : frames) {
+            String name = frame.getClassName();
+
+            if (!isJdk(name) && !isLibrary(name)) {
+                return frame;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Records the end of the invocation phase of a sampled call.
+     *
+     * @param sample The sample, if any.
+     */
+    static void finish(Sample sample) {
+        if (sample != null) {
+            long now = System.nanoTime();
+            long lookedUp = sample.lookedUp == 0 ? now : sample.lookedUp;
+            Counters counters = COUNTERS.computeIfAbsent(sample.site, site -> new Counters());
+
+            counters.interval.add(sample.interval);
+            counters.invokeNanos.add(now - lookedUp);
+            counters.lookupNanos.add(lookedUp - sample.started);
+            counters.samples.increment();
+        }
+    }
+
+    /**
+     * Checks if a class belongs to the JDK.
+     *
+     * @param name The name of the class.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private static boolean isJdk(String name) {
+        for (String prefix : JDK) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a class belongs to this library.
+     *
+     * <p>Classes in the same package that are loaded from another location (e.g. tests) do not
+     * belong to this library, and neither do classes in other packages.</p>
+     *
+     * @param name The name of the class.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private static boolean isLibrary(String name) {
+        return name.startsWith(PACKAGE) && LIBRARY.computeIfAbsent(name, Profiler::isLibraryClass);
+    }
+
+    /**
+     * Checks if a class in the package of this library was loaded from the same location.
+     *
+     * <p>If the class cannot be loaded (e.g. a hidden class, or one from another class loader), it
+     * is treated as caller code.</p>
+     *
+     * @param name The name of the class.
+     *
+     * @return Returns <code>true</code> if it was, or <code>false</code> if not.
+     */
+    private static boolean isLibraryClass(String name) {
+        try {
+            Class<?> clazz = Class.forName(name, false, Profiler.class.getClassLoader());
+
+            return Objects.equals(locate(clazz), locate(Profiler.class));
+        } catch (ClassNotFoundException | LinkageError | SecurityException cause) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the location a class was loaded from.
+     *
+     * @param clazz The class.
+     *
+     * @return The location, or <code>null</code> if unknown.
+     */
+    private static URL locate(Class<?> clazz) {
+        CodeSource source = clazz.getProtectionDomain().getCodeSource();
+
+        return source == null ? null : source.getLocation();
+    }
+
+    /**
+     * Records the end of the lookup phase of a sampled call.
+     *
+     * @param sample The sample, if any.
+     */
+    static void lookedUp(Sample sample) {
+        if (sample != null) {
+            sample.lookedUp = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the recorded call sites, most expensive first.
+     *
+     * <p>The cost of a call site is the total time of its sampled calls.</p>
+     *
+     * @return The call sites.
+     */
+    public static List<Entry> report() {
+        List<Entry> entries = new ArrayList<>();
+
+        COUNTERS.forEach((site, counters) -> entries.add(new Entry(site, counters)));
+
+        entries.sort(
+            Comparator
+                .comparingLong((Entry entry) -> entry.getLookupNanos() + entry.getInvokeNanos())
+                .reversed()
+        );
+
+        return entries;
+    }
+
+    /**
+     * Discards the recorded samples.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /**
+     * Decides if a call is sampled and, if so, starts the sample.
+     *
+     * @param operation The name of the operation.
+     *
+     * @return The sample, or <code>null</code> if the call is not sampled.
+     */
+    static Sample sample(String operation) {
+        int current = interval;
+
+        if (current == 0 || (current > 1 && ThreadLocalRandom.current().nextInt(current) != 0)) {
+            return null;
+        }
+
+        StackTraceElement caller = findCaller(new Throwable().getStackTrace());
+
+        return new Sample(new Site(operation, caller), current);
+    }
+
+    /**
+     * The recorded costs of a call site.
+     */
+    public static final class Entry {
+
+        /**
+         * The call site.
+         */
+        private final Site site;
+
+        /**
+         * The estimated number of calls.
+         */
+        private final long estimatedCalls;
+
+        /**
+         * The total invocation time of the sampled calls.
+         */
+        private final long invokeNanos;
+
+        /**
+         * The total lookup time of the sampled calls.
+         */
+        private final long lookupNanos;
+
+        /**
+         * The number of sampled calls.
+         */
+        private final long samples;
+
+        /**
+         * Creates an entry from the current counters.
+         *
+         * @param site     The call site.
+         * @param counters The counters.
+         */
+        private Entry(Site site, Counters counters) {
+            this.site = site;
+            this.estimatedCalls = counters.interval.sum();
+            this.invokeNanos = counters.invokeNanos.sum();
+            this.lookupNanos = counters.lookupNanos.sum();
+            this.samples = Math.max(1, counters.samples.sum());
+        }
+
+        /**
+         * Returns the stack frame that made the calls.
+         *
+         * @return The stack frame, or <code>null</code> if unknown.
+         */
+        public StackTraceElement getCaller() {
+            return site.caller;
+        }
+
+        /**
+         * Returns the estimated number of calls, based on the sample interval.
+         *
+         * @return The number of calls.
+         */
+        public long getEstimatedCalls() {
+            return estimatedCalls;
+        }
+
+        /**
+         * Returns the total time spent using the members, in nanoseconds.
+         *
+         * @return The time of the sampled calls.
+         */
+        public long getInvokeNanos() {
+            return invokeNanos;
+        }
+
+        /**
+         * Returns the total time spent looking up the members, in nanoseconds.
+         *
+         * @return The time of the sampled calls.
+         */
+        public long getLookupNanos() {
+            return lookupNanos;
+        }
+
+        /**
+         * Returns the name of the operation (e.g. <code>get</code>, <code>set</code>,
+         * <code>invoke</code>, <code>invokeAny</code>, or <code>findField</code>).
+         *
+         * @return The name.
+         */
+        public String getOperation() {
+            return site.operation;
+        }
+
+        /**
+         * Returns the number of sampled calls.
+         *
+         * @return The number of calls.
+         */
+        public long getSamples() {
+            return samples;
+        }
+    }
+
+    /**
+     * The striped counters of a call site.
+     */
+    private static final class Counters {
+
+        /**
+         * The sum of the sample intervals, which estimates the number of calls.
+         */
+        private final LongAdder interval = new LongAdder();
+
+        /**
+         * The total invocation time.
+         */
+        private final LongAdder invokeNanos = new LongAdder();
+
+        /**
+         * The total lookup time.
+         */
+        private final LongAdder lookupNanos = new LongAdder();
+
+        /**
+         * The number of samples.
+         */
+        private final LongAdder samples = new LongAdder();
+    }
+
+    /**
+     * A sampled call in progress.
+     */
+    static final class Sample {
+
+        /**
+         * The sample interval when the call was sampled.
+         */
+        private final int interval;
+
+        /**
+         * When the lookup phase ended.
+         */
+        private long lookedUp;
+
+        /**
+         * The call site.
+         */
+        private final Site site;
+
+        /**
+         * When the call started.
+         */
+        private final long started;
+
+        /**
+         * Starts a sample.
+         *
+         * @param site     The call site.
+         * @param interval The sample interval.
+         */
+        private Sample(Site site, int interval) {
+            this.interval = interval;
+            this.site = site;
+            this.started = System.nanoTime();
+        }
+    }
+
+    /**
+     * An operation called from a stack frame.
+     */
+    private static final class Site {
+
+        /**
+         * The stack frame.
+         */
+        private final StackTraceElement caller;
+
+        /**
+         * The name of the operation.
+         */
+        private final String operation;
+
+        /**
+         * Creates a call site.
+         *
+         * @param operation The name of the operation.
+         * @param caller    The stack frame.
+         */
+        private Site(String operation, StackTraceElement caller) {
+            this.caller = caller;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Site)) {
+                return false;
+            }
+
+            Site site = (Site) other;
+
+            return operation.equals(site.operation) && Objects.equals(caller, site.caller);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * operation.hashCode() + Objects.hashCode(caller);
+        }
+    }
+}
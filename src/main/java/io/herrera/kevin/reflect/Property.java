@@ -0,0 +1,439 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import lombok.SneakyThrows;
+
+/**
+ * A property of a class, made of a getter, a setter, and a backing field.
+ *
+ * <p>A property is read using its getter if it has one, or its backing field if not. It is
+ * written using its setter if it has one, or its backing field if the field is not final.
+ * Properties are read and written through method handles created once, and values of primitive
+ * properties can be read and written without boxing using the typed methods (e.g.
+ * {@link #getInt(Object)}), which follow the same widening rules as <code>Field</code>.</p>
+ *
+ * @see Reflect#properties(Class)
+ */
+public final class Property {
+
+    /**
+     * The backing field, if any.
+     */
+    private final Field field;
+
+    /**
+     * The getter, if any.
+     */
+    private final Method getter;
+
+    /**
+     * The handles used to read the property.
+     */
+    private final Handles readers;
+
+    /**
+     * The name of the property.
+     */
+    private final String name;
+
+    /**
+     * The setter, if any.
+     */
+    private final Method setter;
+
+    /**
+     * The type of the property.
+     */
+    private final Class<?> type;
+
+    /**
+     * The handles used to write the property.
+     */
+    private final Handles writers;
+
+    /**
+     * Creates a property.
+     *
+     * @param name   The name of the property.
+     * @param type   The type of the property.
+     * @param getter The getter, if any.
+     * @param setter The setter, if any.
+     * @param field  The backing field, if any.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    Property(String name, Class<?> type, Method getter, Method setter, Field field) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle reader = null;
+        MethodHandle writer = null;
+
+        if (getter != null) {
+            reader = lookup.unreflect(getter);
+        } else if (field != null) {
+            reader = lookup.unreflectGetter(field);
+        }
+
+        if (setter != null) {
+            writer = lookup.unreflect(setter);
+        } else if (field != null && !Modifier.isFinal(field.getModifiers())) {
+            writer = lookup.unreflectSetter(field);
+        }
+
+        this.field = field;
+        this.getter = getter;
+        this.name = name;
+        this.readers = reader == null ? null : Handles.reader(reader);
+        this.setter = setter;
+        this.type = type;
+        this.writers = writer == null ? null : Handles.writer(writer);
+    }
+
+    /**
+     * Returns the value of the property.
+     *
+     * @param <V>      The type of the property.
+     * @param instance The instance.
+     *
+     * @return The value.
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public <V> V get(Object instance) {
+        return (V) readers().object.invokeExact(instance);
+    }
+
+    /**
+     * Returns the value of a <code>boolean</code> property.
+     *
+     * @param instance The instance.
+     *
+     * @return The value.
+     */
+    @SneakyThrows
+    public boolean getBoolean(Object instance) {
+        return (boolean) typed(readers().bool, "boolean").invokeExact(instance);
+    }
+
+    /**
+     * Returns the value of a property that can be widened to <code>double</code>.
+     *
+     * @param instance The instance.
+     *
+     * @return The value.
+     */
+    @SneakyThrows
+    public double getDouble(Object instance) {
+        return (double) typed(readers().real, "double").invokeExact(instance);
+    }
+
+    /**
+     * Returns the backing field.
+     *
+     * <p>The field is shared, so its accessibility must not be changed.</p>
+     *
+     * @return The field, or <code>null</code> if there is none.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the getter.
+     *
+     * <p>The method is shared, so its accessibility must not be changed.</p>
+     *
+     * @return The getter, or <code>null</code> if there is none.
+     */
+    public Method getGetter() {
+        return getter;
+    }
+
+    /**
+     * Returns the value of a property that can be widened to <code>int</code>.
+     *
+     * @param instance The instance.
+     *
+     * @return The value.
+     */
+    @SneakyThrows
+    public int getInt(Object instance) {
+        return (int) typed(readers().integer, "int").invokeExact(instance);
+    }
+
+    /**
+     * Returns the value of a property that can be widened to <code>long</code>.
+     *
+     * @param instance The instance.
+     *
+     * @return The value.
+     */
+    @SneakyThrows
+    public long getLong(Object instance) {
+        return (long) typed(readers().longer, "long").invokeExact(instance);
+    }
+
+    /**
+     * Returns the name of the property.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the setter.
+     *
+     * <p>The method is shared, so its accessibility must not be changed.</p>
+     *
+     * @return The setter, or <code>null</code> if there is none.
+     */
+    public Method getSetter() {
+        return setter;
+    }
+
+    /**
+     * Returns the type of the property.
+     *
+     * @return The type.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Checks if the property can be read.
+     *
+     * @return Returns <code>true</code> if readable, or <code>false</code> if not.
+     */
+    public boolean isReadable() {
+        return readers != null;
+    }
+
+    /**
+     * Checks if the property can be written.
+     *
+     * @return Returns <code>true</code> if writable, or <code>false</code> if not.
+     */
+    public boolean isWritable() {
+        return writers != null;
+    }
+
+    /**
+     * Returns the handles used to read the property.
+     *
+     * @return The handles.
+     */
+    private Handles readers() {
+        if (readers == null) {
+            throw new UnsupportedOperationException(
+                String.format("The property \"%s\" cannot be read.", name)
+            );
+        }
+
+        return readers;
+    }
+
+    /**
+     * Sets the value of the property.
+     *
+     * @param instance The instance.
+     * @param value    The new value.
+     */
+    @SneakyThrows
+    public void set(Object instance, Object value) {
+        writers().object.invokeExact(instance, value);
+    }
+
+    /**
+     * Sets the value of a <code>boolean</code> property.
+     *
+     * @param instance The instance.
+     * @param value    The new value.
+     */
+    @SneakyThrows
+    public void setBoolean(Object instance, boolean value) {
+        typed(writers().bool, "boolean").invokeExact(instance, value);
+    }
+
+    /**
+     * Sets the value of a property that <code>double</code> can be widened to.
+     *
+     * @param instance The instance.
+     * @param value    The new value.
+     */
+    @SneakyThrows
+    public void setDouble(Object instance, double value) {
+        typed(writers().real, "double").invokeExact(instance, value);
+    }
+
+    /**
+     * Sets the value of a property that <code>int</code> can be widened to.
+     *
+     * @param instance The instance.
+     * @param value    The new value.
+     */
+    @SneakyThrows
+    public void setInt(Object instance, int value) {
+        typed(writers().integer, "int").invokeExact(instance, value);
+    }
+
+    /**
+     * Sets the value of a property that <code>long</code> can be widened to.
+     *
+     * @param instance The instance.
+     * @param value    The new value.
+     */
+    @SneakyThrows
+    public void setLong(Object instance, long value) {
+        typed(writers().longer, "long").invokeExact(instance, value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", type.getName(), name);
+    }
+
+    /**
+     * Checks that a typed handle exists.
+     *
+     * @param handle   The handle, if any.
+     * @param typeName The name of the requested type.
+     *
+     * @return The handle.
+     */
+    private MethodHandle typed(MethodHandle handle, String typeName) {
+        if (handle == null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The property \"%s\" of type %s cannot be used as %s.",
+                    name,
+                    type.getName(),
+                    typeName
+                )
+            );
+        }
+
+        return handle;
+    }
+
+    /**
+     * Returns the handles used to write the property.
+     *
+     * @return The handles.
+     */
+    private Handles writers() {
+        if (writers == null) {
+            throw new UnsupportedOperationException(
+                String.format("The property \"%s\" cannot be written.", name)
+            );
+        }
+
+        return writers;
+    }
+
+    /**
+     * The handles used to read or write a property, adapted to each supported type.
+     */
+    private static final class Handles {
+
+        /**
+         * The handle for <code>boolean</code> values, if compatible.
+         */
+        private final MethodHandle bool;
+
+        /**
+         * The handle for <code>int</code> values, if compatible.
+         */
+        private final MethodHandle integer;
+
+        /**
+         * The handle for <code>long</code> values, if compatible.
+         */
+        private final MethodHandle longer;
+
+        /**
+         * The handle for boxed values.
+         */
+        private final MethodHandle object;
+
+        /**
+         * The handle for <code>double</code> values, if compatible.
+         */
+        private final MethodHandle real;
+
+        /**
+         * Adapts a handle to each supported type.
+         *
+         * @param handle The handle.
+         * @param reader Is the handle a reader?
+         */
+        private Handles(MethodHandle handle, boolean reader) {
+            Class<?> type = reader ? handle.type().returnType() : handle.type().parameterType(1);
+
+            this.bool = adapt(handle, reader, boolean.class, type);
+            this.integer = adapt(handle, reader, int.class, type);
+            this.longer = adapt(handle, reader, long.class, type);
+            this.object = adapt(handle, reader, Object.class, type);
+            this.real = adapt(handle, reader, double.class, type);
+        }
+
+        /**
+         * Adapts a handle to a type.
+         *
+         * @param handle The handle.
+         * @param reader Is the handle a reader?
+         * @param target The type to adapt to.
+         * @param type   The type of the property.
+         *
+         * @return The adapted handle, or <code>null</code> if incompatible.
+         */
+        private static MethodHandle adapt(
+            MethodHandle handle,
+            boolean reader,
+            Class<?> target,
+            Class<?> type
+        ) {
+            if (target.isPrimitive() && !type.isPrimitive()) {
+                return null;
+            }
+
+            try {
+                return handle.asType(
+                    reader
+                        ? MethodType.methodType(target, Object.class)
+                        : MethodType.methodType(void.class, Object.class, target)
+                );
+            } catch (WrongMethodTypeException cause) {
+                return null;
+            }
+        }
+
+        /**
+         * Creates the handles used to read a property.
+         *
+         * @param handle The getter handle.
+         *
+         * @return The handles.
+         */
+        private static Handles reader(MethodHandle handle) {
+            return new Handles(handle, true);
+        }
+
+        /**
+         * Creates the handles used to write a property.
+         *
+         * @param handle The setter handle.
+         *
+         * @return The handles.
+         */
+        private static Handles writer(MethodHandle handle) {
+            return new Handles(handle, false);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Caches the properties of a class.
+ *
+ * <p>Properties are found once per class by pairing getters and setters with the fields that
+ * back them. Two styles of accessors are recognized:</p>
+ *
+ * <ul>
+ *     <li>JavaBeans accessors, such as <code>getName()</code>, <code>isActive()</code>, and
+ *     <code>setName(String)</code>.</li>
+ *     <li>Accessors named after their field, such as <code>name()</code> and
+ *     <code>name(String)</code>, which includes the accessors of records.</li>
+ * </ul>
+ *
+ * <p>Accessors declared by subclasses take precedence over those declared by superclasses. A
+ * setter is only paired with a getter if it accepts the exact type the getter returns, and a
+ * field only backs a property of the exact same type. Methods and fields that cannot be made
+ * accessible are ignored.</p>
+ */
+final class PropertyIndex {
+
+    /**
+     * The properties of each class.
+     */
+    private static final ClassValue<Map<String, Property>> CACHE =
+        new ClassValue<Map<String, Property>>() {
+            @Override
+            protected Map<String, Property> computeValue(Class<?> clazz) {
+                return index(clazz);
+            }
+        };
+
+    /**
+     * Prevents instantiation.
+     */
+    private PropertyIndex() {
+    }
+
+    /**
+     * Converts the remainder of a JavaBeans accessor name into a property name.
+     *
+     * <p>As with <code>java.beans.Introspector</code>, the first letter is only lowercased if the
+     * second letter is not uppercase (e.g. <code>Name</code> becomes <code>name</code>, but
+     * <code>URL</code> stays <code>URL</code>).</p>
+     *
+     * @param name The remainder of the accessor name.
+     *
+     * @return The property name.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1
+            && Character.isUpperCase(name.charAt(0))
+            && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Returns the name of the property read by a getter.
+     *
+     * @param method The method.
+     * @param fields The fields by name.
+     *
+     * @return The name, or <code>null</code> if not a getter.
+     */
+    private static String getterName(Method method, Map<String, Field> fields) {
+        String name = method.getName();
+        Class<?> type = method.getReturnType();
+
+        if (method.getParameterCount() != 0 || type == void.class) {
+            return null;
+        }
+
+        if (name.length() > 3 && name.startsWith("get") && Character.isUpperCase(name.charAt(3))) {
+            return decapitalize(name.substring(3));
+        }
+
+        if (name.length() > 2
+            && name.startsWith("is")
+            && Character.isUpperCase(name.charAt(2))
+            && (type == boolean.class || type == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+
+        Field field = fields.get(name);
+
+        if (field != null && field.getType() == type) {
+            return name;
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the properties of a class.
+     *
+     * @param clazz The class.
+     *
+     * @return The properties by name.
+     */
+    private static Map<String, Property> index(Class<?> clazz) {
+        Map<String, Field> fields = new HashMap<>();
+        Map<String, Method> getters = new HashMap<>();
+        Map<String, Map<Class<?>, Method>> setters = new HashMap<>();
+        Set<String> names = new TreeSet<>();
+
+        for (Field field : FieldIndex.of(clazz).getAccessibleFields()) {
+            fields.putIfAbsent(field.getName(), field);
+        }
+
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            if (current == Object.class) {
+                break;
+            }
+
+            for (Method method : MethodIndex.of(current).getAccessibleMethods()) {
+                if (Modifier.isStatic(method.getModifiers())
+                    || method.isBridge()
+                    || method.isSynthetic()) {
+                    continue;
+                }
+
+                String name = getterName(method, fields);
+
+                if (name != null) {
+                    getters.putIfAbsent(name, method);
+                    names.add(name);
+
+                    continue;
+                }
+
+                name = setterName(method, fields);
+
+                if (name != null) {
+                    setters
+                        .computeIfAbsent(name, key -> new LinkedHashMap<>())
+                        .putIfAbsent(method.getParameterTypes()[0], method);
+
+                    names.add(name);
+                }
+            }
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+
+        for (String name : names) {
+            Method getter = getters.get(name);
+            Field field = fields.get(name);
+            Map<Class<?>, Method> candidates = setters.getOrDefault(name, Collections.emptyMap());
+            Class<?> type = getter == null ? null : getter.getReturnType();
+            Method setter = null;
+
+            if (type == null && field != null) {
+                type = field.getType();
+            }
+
+            if (type != null) {
+                setter = candidates.get(type);
+            }
+
+            if (getter == null && setter == null) {
+                setter = candidates.values().iterator().next();
+                type = setter.getParameterTypes()[0];
+            }
+
+            if (field != null && field.getType() != type) {
+                field = null;
+            }
+
+            properties.put(name, new Property(name, type, getter, setter, field));
+        }
+
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Returns the properties of a class, ordered by name.
+     *
+     * <p>The returned map is shared and cannot be modified.</p>
+     *
+     * @param clazz The class.
+     *
+     * @return The properties by name.
+     */
+    static Map<String, Property> of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * Returns the name of the property written by a setter.
+     *
+     * @param method The method.
+     * @param fields The fields by name.
+     *
+     * @return The name, or <code>null</code> if not a setter.
+     */
+    private static String setterName(Method method, Map<String, Field> fields) {
+        String name = method.getName();
+
+        if (method.getParameterCount() != 1) {
+            return null;
+        }
+
+        if (name.length() > 3 && name.startsWith("set") && Character.isUpperCase(name.charAt(3))) {
+            return decapitalize(name.substring(3));
+        }
+
+        Field field = fields.get(name);
+
+        if (field != null && field.getType() == method.getParameterTypes()[0]) {
+            return name;
+        }
+
+        return null;
+    }
+}
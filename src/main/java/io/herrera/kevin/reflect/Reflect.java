@@ -5,37 +5,52 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 
 /**
  * Provides a collection of utilities to simplify the use of reflections.
+ *
+ * <p>All of the static methods are safe to call from any number of threads. Each lookup returns
+ * a new copy of the reflected member, so making it accessible never changes a member that is
+ * shared with another thread, and the caches used by the other utilities are only published once
+ * fully built. A wrapper created by {@link #on(Object)} is immutable.</p>
  */
 public class Reflect {
 
     /**
      * The reflected class.
      */
-    private Class<?> clazz;
+    private final Class<?> clazz;
 
     /**
      * The reflected instance.
      */
-    private Object object;
+    private final Object object;
 
     /**
      * Reflect a class.
      */
     private Reflect(Class<?> clazz) {
-        this.clazz = clazz;
+        this(clazz, null);
     }
 
     /**
      * Reflect an instance.
      */
     private Reflect(Object object) {
-        this(object.getClass());
+        this(object.getClass(), object);
+    }
 
+    /**
+     * Reflect a class and, optionally, an instance of it.
+     */
+    private Reflect(Class<?> clazz, Object object) {
+        this.clazz = clazz;
         this.object = object;
     }
 
@@ -52,6 +67,66 @@ public class Reflect {
         return findAnyMethod(clazz, name);
     }
 
+    /**
+     * Creates a comparator that compares objects by the values of their fields.
+     *
+     * <p>The fields are found once, when the comparator is created, and are compared in the
+     * order given. Each name may be prefixed with <code>-</code> to compare the field in
+     * descending order (e.g. <code>comparator(Person.class, "lastName", "-age")</code>). The
+     * values of reference fields must be <code>Comparable</code>.</p>
+     *
+     * @param <T>   The type of the objects.
+     * @param clazz The class of the objects.
+     * @param names The names of the fields.
+     *
+     * @return The comparator.
+     *
+     * @see FieldComparator
+     */
+    public static <T> FieldComparator<T> comparator(Class<T> clazz, String... names) {
+        return FieldComparator.of(clazz, names);
+    }
+
+    /**
+     * Compares the fields of two objects and returns the differences.
+     *
+     * @param left  The old object.
+     * @param right The new object.
+     *
+     * @return The differences.
+     *
+     * @see #diff(Object, Object, int)
+     */
+    public static List<Difference> diff(Object left, Object right) {
+        return diff(left, right, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compares the fields of two objects and returns the differences.
+     *
+     * <p>The fields of both objects, including those declared by superclasses, are compared. If
+     * the values of a field are objects or arrays, they are compared in turn until the depth
+     * limit is reached. Identical references are never descended into.</p>
+     *
+     * <p>Values found at the depth limit, value types (e.g. <code>String</code>, boxed
+     * primitives, enums, <code>java.time</code>), and JDK collections, maps, and dates are
+     * compared using <code>equals()</code>. JDK character sequences and numbers that do not
+     * override <code>equals()</code> (e.g. <code>StringBuilder</code>,
+     * <code>AtomicInteger</code>) are compared by their string values. Any other class whose
+     * fields cannot all be made accessible (e.g. most JDK classes on Java 9 and later) is also
+     * compared using <code>equals()</code>, so if it does not override <code>equals()</code>,
+     * two separate instances are reported as different even if their contents are equal.</p>
+     *
+     * @param left     The old object.
+     * @param right    The new object.
+     * @param maxDepth The maximum depth to descend.
+     *
+     * @return The differences.
+     */
+    public static List<Difference> diff(Object left, Object right, int maxDepth) {
+        return Diff.compare(left, right, maxDepth);
+    }
+
     /**
      * Finds a field with the given name.
      *
@@ -65,6 +140,21 @@ public class Reflect {
         return findField(clazz, name);
     }
 
+    /**
+     * Streams the fields declared by the class and its supertypes.
+     *
+     * <p>The fields declared by the class come first, followed by those of its superclasses, and
+     * then those of the interfaces they implement. The hierarchy is walked lazily, one type at a
+     * time, so short-circuiting operations (e.g. <code>findFirst()</code>) only reflect as many
+     * types as they need. The fields are cached and shared by all callers, so their accessibility
+     * must not be changed.</p>
+     *
+     * @return The fields.
+     */
+    public Stream<Field> fields() {
+        return Hierarchy.fields(clazz);
+    }
+
     /**
      * Finds any method with the given name in a class.
      *
@@ -78,23 +168,16 @@ public class Reflect {
      *
      * @return The reflected method.
      */
-    @SneakyThrows({ NoSuchMethodException.class })
     public static Method findAnyMethod(Class<?> clazz, String name) {
         Objects.requireNonNull(clazz, "The class is required.");
         Objects.requireNonNull(name, "The method name is required.");
 
-        Method[] methods = Arrays
-            .stream(clazz.getDeclaredMethods())
-            .filter(method -> method.getName().equals(name))
-            .toArray(Method[]::new);
+        Profiler.Sample sample = Profiler.sample("findAnyMethod");
+        Method method = lookupAnyMethod(clazz, name);
 
-        if (methods.length > 0) {
-            return makeAccessible(methods[0]);
-        } else if (clazz.getSuperclass() != null) {
-            return findAnyMethod(clazz.getSuperclass(), name);
-        }
+        Profiler.finish(sample);
 
-        throw new NoSuchMethodException(String.format("%s.%s()", clazz.getName(), name));
+        return method;
     }
 
     /**
@@ -125,20 +208,16 @@ public class Reflect {
      *
      * @return The reflected field.
      */
-    @SneakyThrows({ NoSuchFieldException.class })
     public static Field findField(Class<?> clazz, String name) {
         Objects.requireNonNull(clazz, "The class is required.");
         Objects.requireNonNull(name, "The field name is required.");
 
-        try {
-            return makeAccessible(clazz.getDeclaredField(name));
-        } catch (NoSuchFieldException cause) {
-            if (clazz.getSuperclass() != null) {
-                return findField(clazz.getSuperclass(), name);
-            }
+        Profiler.Sample sample = Profiler.sample("findField");
+        Field field = lookupField(clazz, name);
 
-            throw cause;
-        }
+        Profiler.finish(sample);
+
+        return field;
     }
 
     /**
@@ -170,20 +249,16 @@ public class Reflect {
      *
      * @return The reflected method.
      */
-    @SneakyThrows({ NoSuchMethodException.class })
     public static Method findMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
         Objects.requireNonNull(clazz, "The class is required.");
         Objects.requireNonNull(name, "The method name is required.");
 
-        try {
-            return makeAccessible(clazz.getDeclaredMethod(name, parameterTypes));
-        } catch (NoSuchMethodException cause) {
-            if (clazz.getSuperclass() != null) {
-                return findMethod(clazz.getSuperclass(), name, parameterTypes);
-            }
+        Profiler.Sample sample = Profiler.sample("findMethod");
+        Method method = lookupMethod(clazz, name, parameterTypes);
 
-            throw cause;
-        }
+        Profiler.finish(sample);
+
+        return method;
     }
 
     /**
@@ -213,10 +288,8 @@ public class Reflect {
      *
      * @see #findField(Class, String)
      */
-    @SneakyThrows({ IllegalAccessException.class })
-    @SuppressWarnings("unchecked")
     public <T> T get(String name) {
-        return (T) findField(clazz, name).get(object);
+        return getValue(clazz, object, name);
     }
 
     /**
@@ -230,10 +303,10 @@ public class Reflect {
      *
      * @see #findField(Class, String)
      */
-    @SneakyThrows({ IllegalAccessException.class })
-    @SuppressWarnings("unchecked")
     public static <T> T getFieldValue(Class<?> clazz, String name) {
-        return (T) findField(clazz, name).get(null);
+        Objects.requireNonNull(clazz, "The class is required.");
+
+        return getValue(clazz, null, name);
     }
 
     /**
@@ -247,10 +320,56 @@ public class Reflect {
      *
      * @see #findField(Object, String)
      */
+    public static <T> T getFieldValue(Object object, String name) {
+        Objects.requireNonNull(object, "The object is required.");
+
+        return getValue(object.getClass(), object, name);
+    }
+
+    /**
+     * Returns the value of a field.
+     *
+     * @param <T>    The type of the field.
+     * @param clazz  The class containing the field.
+     * @param object The object to use if an instance field is read.
+     * @param name   The name of the field.
+     *
+     * @return The value of the field.
+     *
+     * @see #findField(Class, String)
+     */
     @SneakyThrows({ IllegalAccessException.class })
     @SuppressWarnings("unchecked")
-    public static <T> T getFieldValue(Object object, String name) {
-        return (T) findField(object, name).get(object);
+    private static <T> T getValue(Class<?> clazz, Object object, String name) {
+        Objects.requireNonNull(name, "The field name is required.");
+
+        Profiler.Sample sample = Profiler.sample("get");
+        Field field = lookupField(clazz, name);
+
+        Profiler.lookedUp(sample);
+
+        T value = (T) field.get(object);
+
+        Profiler.finish(sample);
+
+        return value;
+    }
+
+    /**
+     * Creates a builder for a plan that populates the fields of many instances of a class.
+     *
+     * <p>The fields, converters, and default values used for each key are resolved once when the
+     * plan is built, so populating an instance does not look up any field.</p>
+     *
+     * @param <T>   The type of the populated instances.
+     * @param clazz The populated class.
+     *
+     * @return The builder.
+     *
+     * @see Injector
+     */
+    public static <T> Injector.Builder<T> injector(Class<T> clazz) {
+        return Injector.of(clazz);
     }
 
     /**
@@ -307,8 +426,19 @@ public class Reflect {
         String name,
         Object... arguments
     ) {
+        Objects.requireNonNull(name, "The method name is required.");
+
+        Profiler.Sample sample = Profiler.sample("invokeAny");
+        Method method = lookupAnyMethod(clazz, name);
+
+        Profiler.lookedUp(sample);
+
         try {
-            return (T) findAnyMethod(clazz, name).invoke(object, arguments);
+            T result = (T) method.invoke(object, arguments);
+
+            Profiler.finish(sample);
+
+            return result;
         } catch (InvocationTargetException cause) {
             throw cause.getCause();
         }
@@ -367,14 +497,23 @@ public class Reflect {
         String name,
         Object... arguments
     ) {
-        Method method = findMethod(
+        Objects.requireNonNull(name, "The method name is required.");
+
+        Profiler.Sample sample = Profiler.sample("invoke");
+        Method method = lookupMethod(
             clazz,
             name,
             Arrays.stream(arguments).map(Object::getClass).toArray(Class<?>[]::new)
         );
 
+        Profiler.lookedUp(sample);
+
         try {
-            return (T) method.invoke(object, arguments);
+            T result = (T) method.invoke(object, arguments);
+
+            Profiler.finish(sample);
+
+            return result;
         } catch (InvocationTargetException cause) {
             throw cause.getCause();
         }
@@ -420,9 +559,85 @@ public class Reflect {
         return invokeMethod(object.getClass(), object, name, arguments);
     }
 
+    /**
+     * Finds any method with the given name in a class and its superclasses.
+     *
+     * @param clazz The class containing the method.
+     * @param name  The name of the method.
+     *
+     * @return The reflected method.
+     *
+     * @see #findAnyMethod(Class, String)
+     */
+    @SneakyThrows({ NoSuchMethodException.class })
+    private static Method lookupAnyMethod(Class<?> clazz, String name) {
+        Method[] methods = Arrays
+            .stream(clazz.getDeclaredMethods())
+            .filter(method -> method.getName().equals(name))
+            .toArray(Method[]::new);
+
+        if (methods.length > 0) {
+            return makeAccessible(methods[0]);
+        } else if (clazz.getSuperclass() != null) {
+            return lookupAnyMethod(clazz.getSuperclass(), name);
+        }
+
+        throw new NoSuchMethodException(String.format("%s.%s()", clazz.getName(), name));
+    }
+
+    /**
+     * Finds a field with the given name in a class and its superclasses.
+     *
+     * @param clazz The class containing the field.
+     * @param name  The name of the field.
+     *
+     * @return The reflected field.
+     *
+     * @see #findField(Class, String)
+     */
+    @SneakyThrows({ NoSuchFieldException.class })
+    private static Field lookupField(Class<?> clazz, String name) {
+        try {
+            return makeAccessible(clazz.getDeclaredField(name));
+        } catch (NoSuchFieldException cause) {
+            if (clazz.getSuperclass() != null) {
+                return lookupField(clazz.getSuperclass(), name);
+            }
+
+            throw cause;
+        }
+    }
+
+    /**
+     * Finds a method with the given signature in a class and its superclasses.
+     *
+     * @param clazz          The class containing the method.
+     * @param name           The name of the method.
+     * @param parameterTypes The parameter types of the method.
+     *
+     * @return The reflected method.
+     *
+     * @see #findMethod(Class, String, Class[])
+     */
+    @SneakyThrows({ NoSuchMethodException.class })
+    private static Method lookupMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return makeAccessible(clazz.getDeclaredMethod(name, parameterTypes));
+        } catch (NoSuchMethodException cause) {
+            if (clazz.getSuperclass() != null) {
+                return lookupMethod(clazz.getSuperclass(), name, parameterTypes);
+            }
+
+            throw cause;
+        }
+    }
+
     /**
      * Makes a reflected object accessible.
      *
+     * <p>The object must be a copy returned by a lookup (e.g. <code>getDeclaredField()</code>),
+     * which is confined to the calling thread until it is returned.</p>
+     *
      * @param <T>    The type of the object.
      * @param object The accessible object.
      *
@@ -434,6 +649,23 @@ public class Reflect {
         return object;
     }
 
+    /**
+     * Creates a builder for a method that caches its results.
+     *
+     * <p>The results are cached by the target and arguments of each invocation, so the method
+     * should be pure. The builder can limit the number of results, choose how results are
+     * evicted, expire results, and reference targets weakly.</p>
+     *
+     * @param method The method.
+     *
+     * @return The builder.
+     *
+     * @see MemoizedMethod
+     */
+    public static MemoizedMethod.Builder memoize(Method method) {
+        return MemoizedMethod.of(method);
+    }
+
     /**
      * Finds a method with the given signature.
      *
@@ -448,6 +680,20 @@ public class Reflect {
         return findMethod(clazz, name, parameterTypes);
     }
 
+    /**
+     * Streams the methods declared by the class and its supertypes.
+     *
+     * <p>The methods are walked in the same order and as lazily as {@link #fields()}. A method
+     * that is overridden is returned once for each type that declares it, subclass first. The
+     * methods are cached and shared by all callers, so their accessibility must not be
+     * changed.</p>
+     *
+     * @return The methods.
+     */
+    public Stream<Method> methods() {
+        return Hierarchy.methods(clazz);
+    }
+
     /**
      * Creates a new wrapper for the class.
      *
@@ -470,6 +716,24 @@ public class Reflect {
         return new Reflect(object);
     }
 
+    /**
+     * Returns the properties of a class, ordered by name.
+     *
+     * <p>Getters and setters are paired with the fields that back them once per class, and the
+     * same unmodifiable map is returned for every call. Both JavaBeans accessors (e.g.
+     * <code>getName()</code>) and accessors named after their field (e.g. <code>name()</code>,
+     * as used by records) are recognized.</p>
+     *
+     * @param clazz The class.
+     *
+     * @return The properties by name.
+     *
+     * @see Property
+     */
+    public static Map<String, Property> properties(Class<?> clazz) {
+        return PropertyIndex.of(Objects.requireNonNull(clazz, "The class is required."));
+    }
+
     /**
      * Sets the value of a field.
      *
@@ -479,9 +743,8 @@ public class Reflect {
      *
      * @see #findField(Class, String)
      */
-    @SneakyThrows({ IllegalAccessException.class })
     public <T> void set(String name, T value) {
-        findField(clazz, name).set(object, value);
+        setValue(clazz, object, name, value);
     }
 
     /**
@@ -494,9 +757,10 @@ public class Reflect {
      *
      * @see #findField(Class, String)
      */
-    @SneakyThrows({ IllegalAccessException.class })
     public static <T> void setFieldValue(Class<?> clazz, String name, T value) {
-        findField(clazz, name).set(null, value);
+        Objects.requireNonNull(clazz, "The class is required.");
+
+        setValue(clazz, null, name, value);
     }
 
     /**
@@ -509,8 +773,123 @@ public class Reflect {
      *
      * @see #findField(Object, String)
      */
-    @SneakyThrows({ IllegalAccessException.class })
     public static <T> void setFieldValue(Object object, String name, T value) {
-        findField(object, name).set(object, value);
+        Objects.requireNonNull(object, "The object is required.");
+
+        setValue(object.getClass(), object, name, value);
+    }
+
+    /**
+     * Sets the value of a field.
+     *
+     * @param <T>    The type of the field.
+     * @param clazz  The class containing the field.
+     * @param object The object to use if an instance field is set.
+     * @param name   The name of the field.
+     * @param value  The new value for the field.
+     *
+     * @see #findField(Class, String)
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    private static <T> void setValue(Class<?> clazz, Object object, String name, T value) {
+        Objects.requireNonNull(name, "The field name is required.");
+
+        Profiler.Sample sample = Profiler.sample("set");
+        Field field = lookupField(clazz, name);
+
+        Profiler.lookedUp(sample);
+
+        field.set(object, value);
+
+        Profiler.finish(sample);
+    }
+
+    /**
+     * Captures the state of an object.
+     *
+     * @param object The object.
+     *
+     * @return The snapshot.
+     *
+     * @see #snapshot(Object, int)
+     */
+    public static Snapshot snapshot(Object object) {
+        return snapshot(object, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Captures the state of an object.
+     *
+     * <p>The snapshot can later be compared to the same object, after it has been changed in
+     * place, to find the fields that changed. The comparison follows the same rules as
+     * {@link #diff(Object, Object, int)}. The JDK values compared as a whole, such as collections,
+     * maps, dates, and <code>StringBuilder</code>, are copied so that changes made to them in
+     * place are found. Any other value compared using <code>equals()</code> is captured by
+     * reference, so changes made to it in place are not found.</p>
+     *
+     * @param object   The object.
+     * @param maxDepth The maximum depth to capture.
+     *
+     * @return The snapshot.
+     */
+    public static Snapshot snapshot(Object object, int maxDepth) {
+        Objects.requireNonNull(object, "The object is required.");
+
+        return new Snapshot(object, maxDepth);
+    }
+
+    /**
+     * Returns the template for a class.
+     *
+     * <p>A template finds the members of the class once and reuses them, and is shared by all
+     * callers. Use it instead of {@link #on(Object)} when the same class is reflected often.</p>
+     *
+     * @param <T>   The type of the class.
+     * @param clazz The class.
+     *
+     * @return The template.
+     */
+    public static <T> Template<T> template(Class<T> clazz) {
+        return Template.of(clazz);
+    }
+
+    /**
+     * Creates a copy of an object with a new value for one of its fields.
+     *
+     * <p>The copy is allocated without calling any constructor, and every field of the object is
+     * copied to it, including final fields. The allocation and copy are planned once per class, so
+     * this can be used to "modify" immutable objects that provide no way to do so. Records and
+     * hidden classes are not supported, and enum constants are rejected since they must remain
+     * unique.</p>
+     *
+     * @param <T>    The type of the object.
+     * @param object The object.
+     * @param name   The name of the field.
+     * @param value  The new value for the field.
+     *
+     * @return The copy.
+     */
+    public static <T> T with(T object, String name, Object value) {
+        Objects.requireNonNull(object, "The object is required.");
+
+        return CopyPlan.of(object.getClass()).copy(object, Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Creates a copy of an object with new values for some of its fields.
+     *
+     * @param <T>    The type of the object.
+     * @param object The object.
+     * @param values The new values by field name.
+     *
+     * @return The copy.
+     *
+     * @see #with(Object, String, Object)
+     */
+    public static <T> T with(T object, Map<String, ?> values) {
+        Objects.requireNonNull(object, "The object is required.");
+        Objects.requireNonNull(values, "The values are required.");
+
+        return CopyPlan.of(object.getClass()).copy(object, values);
     }
 }
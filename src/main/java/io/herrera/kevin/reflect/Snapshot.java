@@ -0,0 +1,49 @@
+package io.herrera.kevin.reflect;
+
+import java.util.List;
+
+/**
+ * The captured state of an object, used to find what changed since it was captured.
+ *
+ * <p>A snapshot copies the field values of the object and of the objects it references, up to
+ * the depth limit, so that later changes made in place can still be detected. JDK collections,
+ * maps, dates, character sequences, and numbers are copied, although the elements of collections
+ * and maps are not. Other values beyond the depth limit, and values of classes compared using
+ * <code>equals()</code>, are captured by reference and are expected to be immutable.</p>
+ *
+ * @see Reflect#snapshot(Object, int)
+ */
+public final class Snapshot {
+
+    /**
+     * The captured state.
+     */
+    private final Object captured;
+
+    /**
+     * The maximum depth captured.
+     */
+    private final int maxDepth;
+
+    /**
+     * Captures the state of an object.
+     *
+     * @param object   The object.
+     * @param maxDepth The maximum depth to capture.
+     */
+    Snapshot(Object object, int maxDepth) {
+        this.captured = Diff.capture(object, maxDepth);
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the differences between the captured state and an object.
+     *
+     * @param current The current version of the object.
+     *
+     * @return The differences.
+     */
+    public List<Difference> diff(Object current) {
+        return Diff.compare(captured, current, maxDepth);
+    }
+}
@@ -0,0 +1,115 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import lombok.SneakyThrows;
+
+/**
+ * The captured values of the static fields of one or more classes.
+ *
+ * <p>Capturing the static state of a class before a test and restoring it afterwards resets any
+ * singletons, registries, or counters the test may have changed, without having to run the test
+ * in a separate JVM. Only the fields themselves are captured: if a static field references a
+ * mutable object that is changed in place, the change is not undone. Static final fields cannot
+ * be reassigned and are ignored.</p>
+ */
+public final class StaticState {
+
+    /**
+     * The captured fields.
+     */
+    private final Field[] fields;
+
+    /**
+     * The captured values.
+     */
+    private final Object[] values;
+
+    /**
+     * Creates a captured state.
+     *
+     * @param fields The captured fields.
+     * @param values The captured values.
+     */
+    private StaticState(Field[] fields, Object[] values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    /**
+     * Captures the static fields declared by the given classes.
+     *
+     * @param classes The classes.
+     *
+     * @return The captured state.
+     *
+     * @see #capture(boolean, Class[])
+     */
+    public static StaticState capture(Class<?>... classes) {
+        return capture(false, classes);
+    }
+
+    /**
+     * Captures the static fields declared by the given classes.
+     *
+     * <p>Only static fields declared by the classes are captured. Static fields declared by their
+     * superclasses are not, unless the superclasses are also given. If <code>nested</code> is
+     * <code>true</code>, the static fields of the classes declared within the given classes are
+     * also captured, recursively.</p>
+     *
+     * @param nested  Capture nested classes?
+     * @param classes The classes.
+     *
+     * @return The captured state.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public static StaticState capture(boolean nested, Class<?>... classes) {
+        Objects.requireNonNull(classes, "The classes are required.");
+
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        List<Field> fields = new ArrayList<>();
+
+        for (Class<?> clazz : classes) {
+            pending.add(Objects.requireNonNull(clazz, "The class is required."));
+        }
+
+        while (!pending.isEmpty()) {
+            Class<?> clazz = pending.poll();
+
+            for (Field field : FieldIndex.of(clazz).getStaticFields()) {
+                fields.add(field);
+            }
+
+            if (nested) {
+                for (Class<?> declared : clazz.getDeclaredClasses()) {
+                    pending.add(declared);
+                }
+            }
+        }
+
+        Field[] captured = fields.toArray(new Field[0]);
+        Object[] values = new Object[captured.length];
+
+        for (int i = 0; i < captured.length; i++) {
+            values[i] = captured[i].get(null);
+        }
+
+        return new StaticState(captured, values);
+    }
+
+    /**
+     * Restores the static fields to their captured values.
+     *
+     * <p>The state can be restored any number of times.</p>
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public void restore() {
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].set(null, values[i]);
+        }
+    }
+}
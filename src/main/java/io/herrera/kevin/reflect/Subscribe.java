@@ -0,0 +1,22 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as an event handler.
+ *
+ * <p>The method must be an instance method with exactly one parameter, whose type is the type of
+ * event handled. Methods named after the simple name of their parameter type (e.g.
+ * <code>onUserCreated(UserCreated event)</code>) are also handlers, without the annotation.</p>
+ *
+ * @see EventDispatcher
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subscribe {
+}
@@ -0,0 +1,451 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.SneakyThrows;
+
+/**
+ * Reflects a class once and reuses the members it finds for any number of instances.
+ *
+ * <p>A template is like a {@link Reflect} wrapper for a class, except that every field and method
+ * it finds is remembered, and instance members are used by passing the instance to each call
+ * (or by binding the template to an instance). There is only one template per class, it is
+ * immutable from the outside, and it is safe to share between threads.</p>
+ *
+ * <p>Members are found using the same rules as <code>Reflect</code>. The fields and methods
+ * returned by a template are shared by every caller, so their accessibility must not be
+ * changed.</p>
+ *
+ * @param <T> The type of the class.
+ *
+ * @see Reflect#template(Class)
+ */
+public final class Template<T> {
+
+    /**
+     * The template for each class.
+     */
+    private static final ClassValue<Template<?>> CACHE = new ClassValue<Template<?>>() {
+        @Override
+        protected Template<?> computeValue(Class<?> clazz) {
+            return new Template<>(clazz);
+        }
+    };
+
+    /**
+     * The methods found by name only.
+     */
+    private final ConcurrentMap<String, Method> anyMethods = new ConcurrentHashMap<>();
+
+    /**
+     * The reflected class.
+     */
+    private final Class<T> clazz;
+
+    /**
+     * The fields found by name.
+     */
+    private final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<>();
+
+    /**
+     * The methods found by name and signature.
+     */
+    private final ConcurrentMap<String, Signature[]> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a template.
+     *
+     * @param clazz The reflected class.
+     */
+    private Template(Class<T> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * Finds any method with the given name.
+     *
+     * @param name The name of the method.
+     *
+     * @return The reflected method.
+     *
+     * @see Reflect#findAnyMethod(Class, String)
+     */
+    public Method anyMethod(String name) {
+        Method method = anyMethods.get(name);
+
+        if (method == null) {
+            method = anyMethods.computeIfAbsent(name, key -> Reflect.findAnyMethod(clazz, key));
+        }
+
+        return method;
+    }
+
+    /**
+     * Creates a view of the template bound to an instance.
+     *
+     * @param instance The instance.
+     *
+     * @return The bound view.
+     */
+    public Bound<T> bind(T instance) {
+        return new Bound<>(this, Objects.requireNonNull(instance, "The instance is required."));
+    }
+
+    /**
+     * Invokes a method and returns its result.
+     *
+     * @param <R>       The type of the method result.
+     * @param method    The method.
+     * @param instance  The instance, or <code>null</code> for a static method.
+     * @param arguments The arguments for the method.
+     *
+     * @return The result of the method.
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private static <R> R call(Method method, Object instance, Object... arguments) {
+        try {
+            return (R) method.invoke(instance, arguments);
+        } catch (InvocationTargetException cause) {
+            throw cause.getCause();
+        }
+    }
+
+    /**
+     * Finds a field with the given name.
+     *
+     * @param name The name of the field.
+     *
+     * @return The reflected field.
+     *
+     * @see Reflect#findField(Class, String)
+     */
+    public Field field(String name) {
+        Field field = fields.get(name);
+
+        if (field == null) {
+            field = fields.computeIfAbsent(name, key -> Reflect.findField(clazz, key));
+        }
+
+        return field;
+    }
+
+    /**
+     * Returns the value of a field.
+     *
+     * @param <V>      The type of the field.
+     * @param instance The instance, or <code>null</code> for a static field.
+     * @param name     The name of the field.
+     *
+     * @return The value of the field.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    @SuppressWarnings("unchecked")
+    public <V> V get(T instance, String name) {
+        return (V) field(name).get(instance);
+    }
+
+    /**
+     * Returns the reflected class.
+     *
+     * @return The class.
+     */
+    public Class<T> getReflectedClass() {
+        return clazz;
+    }
+
+    /**
+     * Invokes a method with a signature that matches the arguments.
+     *
+     * <p>The method is found using the classes of the arguments, as with
+     * <code>Reflect.invokeMethod()</code>. If the method throws an exception, the exception is
+     * rethrown as is.</p>
+     *
+     * @param <R>       The type of the method result.
+     * @param instance  The instance, or <code>null</code> for a static method.
+     * @param name      The name of the method.
+     * @param arguments The arguments for the method.
+     *
+     * @return The result of the method.
+     */
+    public <R> R invoke(T instance, String name, Object... arguments) {
+        return call(methodFor(name, arguments), instance, arguments);
+    }
+
+    /**
+     * Invokes any method with the given name.
+     *
+     * @param <R>       The type of the method result.
+     * @param instance  The instance, or <code>null</code> for a static method.
+     * @param name      The name of the method.
+     * @param arguments The arguments for the method.
+     *
+     * @return The result of the method.
+     *
+     * @see #anyMethod(String)
+     */
+    public <R> R invokeAny(T instance, String name, Object... arguments) {
+        return call(anyMethod(name), instance, arguments);
+    }
+
+    /**
+     * Finds a method with the given signature.
+     *
+     * @param name           The name of the method.
+     * @param parameterTypes The parameter types of the method.
+     *
+     * @return The reflected method.
+     *
+     * @see Reflect#findMethod(Class, String, Class[])
+     */
+    public Method method(String name, Class<?>... parameterTypes) {
+        Signature[] signatures = methods.get(name);
+
+        if (signatures != null) {
+            for (Signature signature : signatures) {
+                if (Arrays.equals(signature.parameterTypes, parameterTypes)) {
+                    return signature.method;
+                }
+            }
+        }
+
+        return remember(name, Reflect.findMethod(clazz, name, parameterTypes));
+    }
+
+    /**
+     * Finds a method with a signature that matches the arguments.
+     *
+     * @param name      The name of the method.
+     * @param arguments The arguments for the method.
+     *
+     * @return The reflected method.
+     */
+    private Method methodFor(String name, Object[] arguments) {
+        Signature[] signatures = methods.get(name);
+
+        if (signatures != null) {
+            for (Signature signature : signatures) {
+                if (signature.accepts(arguments)) {
+                    return signature.method;
+                }
+            }
+        }
+
+        return method(
+            name,
+            Arrays.stream(arguments).map(Object::getClass).toArray(Class<?>[]::new)
+        );
+    }
+
+    /**
+     * Returns the template for a class.
+     *
+     * @param <T>   The type of the class.
+     * @param clazz The class.
+     *
+     * @return The template.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Template<T> of(Class<T> clazz) {
+        return (Template<T>) CACHE.get(Objects.requireNonNull(clazz, "The class is required."));
+    }
+
+    /**
+     * Remembers a method found by signature.
+     *
+     * <p>If another thread remembered the same method first, its copy is kept and returned, so
+     * that every caller gets the same instance.</p>
+     *
+     * @param name   The name of the method.
+     * @param method The method.
+     *
+     * @return The remembered method.
+     */
+    private Method remember(String name, Method method) {
+        Signature[] added = { new Signature(method) };
+        Signature[] remembered = methods.merge(name, added, (current, ignored) -> {
+            for (Signature signature : current) {
+                if (signature.method.equals(method)) {
+                    return current;
+                }
+            }
+
+            Signature[] merged = Arrays.copyOf(current, current.length + 1);
+
+            merged[current.length] = added[0];
+
+            return merged;
+        });
+
+        for (Signature signature : remembered) {
+            if (signature.method.equals(method)) {
+                return signature.method;
+            }
+        }
+
+        return method;
+    }
+
+    /**
+     * Sets the value of a field.
+     *
+     * @param <V>      The type of the field.
+     * @param instance The instance, or <code>null</code> for a static field.
+     * @param name     The name of the field.
+     * @param value    The new value for the field.
+     */
+    @SneakyThrows({ IllegalAccessException.class })
+    public <V> void set(T instance, String name, V value) {
+        field(name).set(instance, value);
+    }
+
+    /**
+     * A template bound to an instance.
+     *
+     * <p>The view holds nothing but the template and the instance, so it is cheap to create for
+     * every use.</p>
+     *
+     * @param <T> The type of the instance.
+     */
+    public static final class Bound<T> {
+
+        /**
+         * The instance.
+         */
+        private final T instance;
+
+        /**
+         * The template.
+         */
+        private final Template<T> template;
+
+        /**
+         * Creates a bound view.
+         *
+         * @param template The template.
+         * @param instance The instance.
+         */
+        private Bound(Template<T> template, T instance) {
+            this.instance = instance;
+            this.template = template;
+        }
+
+        /**
+         * Returns the value of a field.
+         *
+         * @param <V>  The type of the field.
+         * @param name The name of the field.
+         *
+         * @return The value of the field.
+         *
+         * @see Template#get(Object, String)
+         */
+        public <V> V get(String name) {
+            return template.get(instance, name);
+        }
+
+        /**
+         * Returns the bound instance.
+         *
+         * @return The instance.
+         */
+        public T getInstance() {
+            return instance;
+        }
+
+        /**
+         * Invokes a method with a signature that matches the arguments.
+         *
+         * @param <R>       The type of the method result.
+         * @param name      The name of the method.
+         * @param arguments The arguments for the method.
+         *
+         * @return The result of the method.
+         *
+         * @see Template#invoke(Object, String, Object...)
+         */
+        public <R> R invoke(String name, Object... arguments) {
+            return template.invoke(instance, name, arguments);
+        }
+
+        /**
+         * Invokes any method with the given name.
+         *
+         * @param <R>       The type of the method result.
+         * @param name      The name of the method.
+         * @param arguments The arguments for the method.
+         *
+         * @return The result of the method.
+         *
+         * @see Template#invokeAny(Object, String, Object...)
+         */
+        public <R> R invokeAny(String name, Object... arguments) {
+            return template.invokeAny(instance, name, arguments);
+        }
+
+        /**
+         * Sets the value of a field.
+         *
+         * @param <V>   The type of the field.
+         * @param name  The name of the field.
+         * @param value The new value for the field.
+         *
+         * @see Template#set(Object, String, Object)
+         */
+        public <V> void set(String name, V value) {
+            template.set(instance, name, value);
+        }
+    }
+
+    /**
+     * A method and its parameter types.
+     */
+    private static final class Signature {
+
+        /**
+         * The method.
+         */
+        private final Method method;
+
+        /**
+         * The parameter types of the method.
+         */
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * Creates a signature.
+         *
+         * @param method The method.
+         */
+        private Signature(Method method) {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+        }
+
+        /**
+         * Checks if the classes of the arguments match the parameter types exactly.
+         *
+         * @param arguments The arguments.
+         *
+         * @return Returns <code>true</code> if they match, or <code>false</code> if not.
+         */
+        private boolean accepts(Object[] arguments) {
+            if (arguments.length != parameterTypes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i].getClass() != parameterTypes[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.herrera.kevin.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * Finds the methods of <code>sun.misc.Unsafe</code>, if it is available.
+ *
+ * <p>The unsafe instance is looked up once. Every handle is bound to it, so callers do not need
+ * to depend on the class at compile time. If the class, its instance, or a method is not
+ * available (e.g. on a JVM that does not provide it, or under a security manager), no handle is
+ * returned and callers are expected to fall back to another approach or fail.</p>
+ */
+final class UnsafeAccess {
+
+    /**
+     * The unsafe instance, if available.
+     */
+    private static final Object UNSAFE;
+
+    static {
+        Object unsafe;
+
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+
+            field.setAccessible(true);
+
+            unsafe = field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException cause) {
+            unsafe = null;
+        }
+
+        UNSAFE = unsafe;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private UnsafeAccess() {
+    }
+
+    /**
+     * Finds a method bound to the unsafe instance.
+     *
+     * @param name           The name of the method.
+     * @param parameterTypes The parameter types of the method.
+     *
+     * @return The handle, or <code>null</code> if not available.
+     */
+    static MethodHandle find(String name, Class<?>... parameterTypes) {
+        if (UNSAFE == null) {
+            return null;
+        }
+
+        try {
+            return MethodHandles
+                .lookup()
+                .unreflect(UNSAFE.getClass().getMethod(name, parameterTypes))
+                .bindTo(UNSAFE);
+        } catch (ReflectiveOperationException | RuntimeException cause) {
+            return null;
+        }
+    }
+}
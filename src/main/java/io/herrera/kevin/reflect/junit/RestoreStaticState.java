@@ -0,0 +1,41 @@
+package io.herrera.kevin.reflect.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Restores the static fields of the given classes after each test.
+ *
+ * <p>The static fields are captured before each test and restored after it, whether it passed or
+ * failed. If the annotation is present on both the test class and the test method, the one on
+ * the method is used. <code>@Nested</code> test classes without the annotation use the one on
+ * the closest enclosing class.</p>
+ *
+ * @see io.herrera.kevin.reflect.StaticState
+ */
+@Documented
+@ExtendWith(StaticStateExtension.class)
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RestoreStaticState {
+
+    /**
+     * Restore the static fields of nested classes too?
+     *
+     * @return Returns <code>true</code> if nested classes are restored.
+     */
+    boolean nested() default false;
+
+    /**
+     * The classes whose static fields are restored.
+     *
+     * @return The classes.
+     */
+    Class<?>[] value();
+}
@@ -0,0 +1,82 @@
+package io.herrera.kevin.reflect.junit;
+
+import io.herrera.kevin.reflect.StaticState;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * Captures static state before each test and restores it after.
+ *
+ * <p>The extension is registered by {@link RestoreStaticState}, which also declares the classes
+ * to capture. The annotation is looked up on the test method, then on the test class, and then
+ * on the classes enclosing it, so that <code>@Nested</code> test classes use the annotation of
+ * their enclosing class. If the annotation cannot be found, the extension does nothing.</p>
+ */
+public class StaticStateExtension implements AfterEachCallback, BeforeEachCallback {
+
+    /**
+     * The namespace for the captured state.
+     */
+    private static final Namespace NAMESPACE = Namespace.create(StaticStateExtension.class);
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        StaticState state = context.getStore(NAMESPACE).remove(
+            context.getUniqueId(),
+            StaticState.class
+        );
+
+        if (state != null) {
+            state.restore();
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RestoreStaticState annotation = findAnnotation(context.getTestMethod())
+            .orElseGet(() -> findClassAnnotation(context.getTestClass().orElse(null)));
+
+        if (annotation != null) {
+            context.getStore(NAMESPACE).put(
+                context.getUniqueId(),
+                StaticState.capture(annotation.nested(), annotation.value())
+            );
+        }
+    }
+
+    /**
+     * Finds the annotation on a class or the classes enclosing it.
+     *
+     * @param clazz The class, if any.
+     *
+     * @return The annotation, or <code>null</code> if not found.
+     */
+    private static RestoreStaticState findClassAnnotation(Class<?> clazz) {
+        for (Class<?> current = clazz; current != null; current = current.getEnclosingClass()) {
+            RestoreStaticState annotation = current.getAnnotation(RestoreStaticState.class);
+
+            if (annotation != null) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the annotation on an element.
+     *
+     * @param element The element, if any.
+     *
+     * @return The annotation, if any.
+     */
+    private static Optional<RestoreStaticState> findAnnotation(
+        Optional<? extends AnnotatedElement> element
+    ) {
+        return element.map(found -> found.getAnnotation(RestoreStaticState.class));
+    }
+}
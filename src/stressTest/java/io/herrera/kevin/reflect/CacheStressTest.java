@@ -0,0 +1,171 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the per-class caches are built once and safely published under contention.
+ *
+ * <p>Each round uses a new copy of {@link Fixture}, defined by its own class loader, so that every
+ * round races to build the caches of a class that has never been seen before.</p>
+ */
+public class CacheStressTest {
+
+    /**
+     * The number of rounds, and of fresh classes.
+     */
+    private static final int ROUNDS = 200;
+
+    /**
+     * Verify that every thread gets the same fully built indexes.
+     */
+    @Test
+    public void indexTest() throws Exception {
+        Class<?>[] classes = freshClasses();
+        Object[][] indexes = new Object[ROUNDS][Stress.THREADS * 5];
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            Class<?> clazz = classes[round];
+            Object instance = clazz.newInstance();
+            FieldIndex fields = FieldIndex.of(clazz);
+
+            indexes[round][thread * 5] = fields;
+            indexes[round][thread * 5 + 1] = MethodIndex.of(clazz);
+            indexes[round][thread * 5 + 2] = PropertyIndex.of(clazz);
+            indexes[round][thread * 5 + 3] = Template.of(clazz);
+            indexes[round][thread * 5 + 4] = CopyPlan.of(clazz);
+
+            assertEquals(3, fields.getAccessibleFields().length);
+
+            for (Field field : fields.getAccessibleFields()) {
+                field.get(instance);
+            }
+
+            assertEquals(3, PropertyIndex.of(clazz).size());
+            assertEquals(0, (int) PropertyIndex.of(clazz).get("count").get(instance));
+        });
+
+        for (Object[] round : indexes) {
+            for (int i = 5; i < round.length; i++) {
+                assertSame(round[i % 5], round[i]);
+            }
+        }
+    }
+
+    /**
+     * Verify that templates remember the same members for every thread.
+     */
+    @Test
+    public void templateTest() {
+        Object[][] members = new Object[ROUNDS][Stress.THREADS];
+        Template<Fixture> template = Template.of(Fixture.class);
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            Fixture fixture = new Fixture();
+
+            members[round][thread] = round % 2 == 0
+                ? template.method("setCount", int.class)
+                : template.field("name");
+
+            template.set(fixture, "name", "thread " + thread);
+            template.invokeAny(fixture, "setCount", round);
+
+            assertEquals("thread " + thread, template.get(fixture, "name"));
+            assertEquals(round, fixture.getCount());
+        });
+
+        for (Object[] round : members) {
+            for (Object member : round) {
+                assertSame(round[0], member);
+            }
+        }
+    }
+
+    /**
+     * Verify that copies of a shared immutable object are always complete.
+     */
+    @Test
+    public void withTest() {
+        Fixture original = new Fixture(42L);
+
+        original.setName("original");
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            Fixture copy = Reflect.with(original, "count", round);
+
+            assertEquals(42L, copy.getId());
+            assertEquals("original", copy.getName());
+            assertEquals(round, copy.getCount());
+        });
+
+        assertEquals(0, original.getCount());
+    }
+
+    /**
+     * Defines a new copy of the fixture class for each round.
+     *
+     * @return The classes.
+     */
+    private static Class<?>[] freshClasses() throws IOException {
+        byte[] bytes;
+
+        try (InputStream input = Fixture.class.getResourceAsStream("Fixture.class")) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+
+            for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+                output.write(buffer, 0, read);
+            }
+
+            bytes = output.toByteArray();
+        }
+
+        Class<?>[] classes = new Class<?>[ROUNDS];
+
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new FreshLoader(bytes).define();
+        }
+
+        assertEquals(ROUNDS, Arrays.stream(classes).distinct().count());
+
+        return classes;
+    }
+
+    /**
+     * A class loader that defines its own copy of the fixture class.
+     */
+    private static final class FreshLoader extends ClassLoader {
+
+        /**
+         * The bytecode of the fixture class.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Creates a class loader.
+         *
+         * @param bytes The bytecode of the fixture class.
+         */
+        private FreshLoader(byte[] bytes) {
+            super(CacheStressTest.class.getClassLoader());
+
+            this.bytes = bytes;
+        }
+
+        /**
+         * Defines the copy of the fixture class.
+         *
+         * @return The class.
+         */
+        private Class<?> define() {
+            return defineClass(Fixture.class.getName(), bytes, 0, bytes.length);
+        }
+    }
+}
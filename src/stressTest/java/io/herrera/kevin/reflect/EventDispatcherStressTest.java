@@ -0,0 +1,73 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the event dispatcher does not lose registrations under contention.
+ */
+public class EventDispatcherStressTest {
+
+    /**
+     * The number of rounds.
+     */
+    private static final int ROUNDS = 1000;
+
+    /**
+     * Verify that concurrent registrations, dispatches, and unregistrations are all applied.
+     */
+    @Test
+    public void registerTest() {
+        EventDispatcher dispatcher = new EventDispatcher();
+        Listener[] listeners = new Listener[Stress.THREADS];
+
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i] = new Listener();
+        }
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            Listener listener = listeners[thread];
+            int before = listener.calls.get();
+
+            assertEquals(1, dispatcher.register(listener));
+            assertTrue(dispatcher.dispatch(new Ping()) >= 1);
+            assertTrue(listener.calls.get() > before);
+            assertEquals(1, dispatcher.unregister(listener));
+        });
+
+        assertEquals(0, dispatcher.dispatch(new Ping()));
+
+        for (Listener listener : listeners) {
+            assertTrue(listener.calls.get() >= ROUNDS);
+        }
+    }
+
+    /**
+     * A listener that counts the events it receives.
+     */
+    public static class Listener {
+
+        /**
+         * The number of events received.
+         */
+        private final AtomicInteger calls = new AtomicInteger();
+
+        /**
+         * Handles an event.
+         *
+         * @param ping The event.
+         */
+        public void onPing(Ping ping) {
+            calls.incrementAndGet();
+        }
+    }
+
+    /**
+     * An event.
+     */
+    public static class Ping {
+    }
+}
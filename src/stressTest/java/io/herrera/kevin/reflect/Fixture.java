@@ -0,0 +1,103 @@
+package io.herrera.kevin.reflect;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class reflected by the stress tests.
+ */
+public class Fixture {
+
+    /**
+     * The number of times {@link #compute(Integer)} was called.
+     */
+    static final AtomicInteger CALLS = new AtomicInteger();
+
+    /**
+     * A primitive field.
+     */
+    private int count;
+
+    /**
+     * A final field.
+     */
+    private final long id;
+
+    /**
+     * A reference field.
+     */
+    private String name;
+
+    /**
+     * Creates a fixture.
+     */
+    public Fixture() {
+        this(0L);
+    }
+
+    /**
+     * Creates a fixture with an identifier.
+     *
+     * @param id The identifier.
+     */
+    public Fixture(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Computes a value from a key.
+     *
+     * @param key The key.
+     *
+     * @return The value.
+     */
+    public String compute(Integer key) {
+        CALLS.incrementAndGet();
+
+        return "value " + key;
+    }
+
+    /**
+     * Returns the count.
+     *
+     * @return The count.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the identifier.
+     *
+     * @return The identifier.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the count.
+     *
+     * @param count The count.
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Sets the name.
+     *
+     * @param name The name.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+}
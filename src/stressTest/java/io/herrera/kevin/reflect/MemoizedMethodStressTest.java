@@ -0,0 +1,36 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that memoized methods compute each result once under contention.
+ */
+public class MemoizedMethodStressTest {
+
+    /**
+     * The number of rounds.
+     */
+    private static final int ROUNDS = 1000;
+
+    /**
+     * Verify that every thread asking for the same result at once gets a single computation.
+     */
+    @Test
+    public void invokeTest() {
+        Fixture fixture = new Fixture();
+        MemoizedMethod method = Reflect
+            .memoize(Reflect.findMethod(Fixture.class, "compute", Integer.class))
+            .build();
+
+        Fixture.CALLS.set(0);
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            assertEquals("value " + round, method.invoke(fixture, round));
+        });
+
+        assertEquals(ROUNDS, Fixture.CALLS.get());
+        assertEquals(ROUNDS, method.size());
+    }
+}
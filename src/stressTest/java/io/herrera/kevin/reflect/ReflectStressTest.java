@@ -0,0 +1,103 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the static utilities and wrappers can be used from many threads at once.
+ */
+public class ReflectStressTest {
+
+    /**
+     * The number of rounds.
+     */
+    private static final int ROUNDS = 2000;
+
+    /**
+     * A wrapper published to other threads without synchronization.
+     */
+    private static Reflect racy;
+
+    /**
+     * Verify that each lookup returns a copy that is made accessible without touching the copies
+     * returned to other threads.
+     */
+    @Test
+    public void lookupTest() {
+        Field[] previous = new Field[Stress.THREADS];
+
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            Fixture fixture = new Fixture();
+            Field field = Reflect.findField(Fixture.class, "count");
+
+            assertNotSame(previous[thread], field);
+
+            previous[thread] = field;
+
+            Reflect.setFieldValue(fixture, "count", round);
+            Reflect.invokeMethod(fixture, "setName", "thread " + thread);
+
+            assertEquals(round, field.getInt(fixture));
+            assertEquals(round, (int) Reflect.getFieldValue(fixture, "count"));
+            assertEquals("thread " + thread, Reflect.invokeAnyMethod(fixture, "getName"));
+        });
+    }
+
+    /**
+     * Verify that the profiler counts every sampled call exactly once.
+     */
+    @Test
+    public void profilerTest() {
+        Profiler.reset();
+        Profiler.enable(1);
+
+        try {
+            Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+                Reflect.getFieldValue(new Fixture(), "count");
+            });
+
+            long samples = Profiler
+                .report()
+                .stream()
+                .filter(entry -> entry.getOperation().equals("get"))
+                .mapToLong(Profiler.Entry::getSamples)
+                .sum();
+
+            assertEquals((long) Stress.THREADS * ROUNDS, samples);
+        } finally {
+            Profiler.disable();
+            Profiler.reset();
+        }
+    }
+
+    /**
+     * Verify that a wrapper published without synchronization is always complete.
+     *
+     * <p>The class and object of the wrapper are final, so another thread must never see them as
+     * <code>null</code>, nor see the object before its own final field was set.</p>
+     */
+    @Test
+    public void publicationTest() {
+        Stress.run(Stress.THREADS, ROUNDS, (thread, round) -> {
+            if (thread == 0) {
+                racy = Reflect.on(new Fixture(round + 1L));
+            } else {
+                Reflect wrapper = racy;
+
+                if (wrapper != null) {
+                    Fixture fixture = Reflect.getFieldValue(wrapper, "object");
+
+                    assertSame(Fixture.class, Reflect.getFieldValue(wrapper, "clazz"));
+                    assertNotNull(fixture);
+                    assertTrue(fixture.getId() > 0);
+                }
+            }
+        });
+    }
+}
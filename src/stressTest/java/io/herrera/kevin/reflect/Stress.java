@@ -0,0 +1,94 @@
+package io.herrera.kevin.reflect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a task from many threads at once.
+ *
+ * <p>The threads wait on a barrier before each round, so that every round starts with all of the
+ * threads contending for the same state. The first failure of any thread is rethrown once all of
+ * the threads have stopped.</p>
+ */
+final class Stress {
+
+    /**
+     * The number of threads used by default.
+     */
+    static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * Prevents instantiation.
+     */
+    private Stress() {
+    }
+
+    /**
+     * Runs a task from many threads for a number of rounds.
+     *
+     * @param threads The number of threads.
+     * @param rounds  The number of rounds.
+     * @param task    The task.
+     */
+    static void run(int threads, int rounds, Task task) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int round = 0; round < rounds && failure.get() == null; round++) {
+                        barrier.await(30, TimeUnit.SECONDS);
+                        task.run(thread, round);
+                    }
+                } catch (Throwable cause) {
+                    failure.compareAndSet(null, cause);
+                    barrier.reset();
+                }
+            });
+
+            workers.add(worker);
+            worker.start();
+        }
+
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.MINUTES.toMillis(2));
+            } catch (InterruptedException cause) {
+                Thread.currentThread().interrupt();
+
+                throw new AssertionError("Interrupted while waiting for the threads.", cause);
+            }
+
+            if (worker.isAlive()) {
+                throw new AssertionError("A thread did not finish in time.");
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("A thread failed: " + failure.get(), failure.get());
+        }
+    }
+
+    /**
+     * A task run by each thread in each round.
+     */
+    @FunctionalInterface
+    interface Task {
+
+        /**
+         * Runs the task.
+         *
+         * @param thread The index of the thread.
+         * @param round  The index of the round.
+         *
+         * @throws Exception If the task fails.
+         */
+        void run(int thread, int round) throws Exception;
+    }
+}
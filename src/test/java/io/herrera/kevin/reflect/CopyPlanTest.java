@@ -0,0 +1,197 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that objects are copied with new field values as intended.
+ */
+public class CopyPlanTest {
+
+    /**
+     * Verify that several fields are replaced at once.
+     */
+    @Test
+    public void multipleTest() {
+        Money money = new Money("USD", 100L);
+        Map<String, Object> values = new HashMap<>();
+
+        values.put("amount", 250L);
+        values.put("currency", "EUR");
+
+        Money copy = Reflect.with(money, values);
+
+        assertEquals("EUR", copy.getCurrency());
+        assertEquals(250L, copy.getAmount());
+        assertEquals("USD", money.getCurrency());
+        assertEquals(100L, money.getAmount());
+    }
+
+    /**
+     * Verify that one final field is replaced, the others are copied, and no constructor is
+     * called.
+     */
+    @Test
+    public void singleTest() {
+        Money money = new Money("USD", 100L);
+        int created = Money.created;
+        Money copy = Reflect.with(money, "amount", 5L);
+
+        assertNotSame(money, copy);
+        assertEquals(5L, copy.getAmount());
+        assertSame(money.getCurrency(), copy.getCurrency());
+        assertEquals(created, Money.created);
+    }
+
+    /**
+     * Verify that fields declared by superclasses are copied.
+     */
+    @Test
+    public void superclassTest() {
+        TaggedMoney money = new TaggedMoney("USD", 100L, "tag");
+        TaggedMoney copy = Reflect.with(money, "currency", "CAD");
+
+        assertEquals("CAD", copy.getCurrency());
+        assertEquals(100L, copy.getAmount());
+        assertEquals("tag", copy.tag);
+    }
+
+    /**
+     * Verify that invalid copies are rejected.
+     */
+    @Test
+    public void unsupportedTest() {
+        assertThrows(
+            NoSuchFieldException.class,
+            () -> Reflect.with(new Money("USD", 1L), "missing", 1)
+        );
+        assertThrows(
+            ClassCastException.class,
+            () -> Reflect.with(new Money("USD", 1L), "currency", 1)
+        );
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> Reflect.with(new int[0], "length", 1)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Reflect.with(TimeUnit.SECONDS, "name", "copy")
+        );
+    }
+
+    /**
+     * Verify that each value is written to its own field, even if the views of the map iterate
+     * in different orders.
+     */
+    @Test
+    public void viewOrderTest() {
+        Map<String, Object> values = new LinkedHashMap<String, Object>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Collection<Object> values() {
+                List<Object> reversed = new ArrayList<>(super.values());
+
+                Collections.reverse(reversed);
+
+                return reversed;
+            }
+        };
+
+        values.put("currency", "EUR");
+        values.put("amount", 250L);
+
+        Money copy = Reflect.with(new Money("USD", 100L), values);
+
+        assertEquals("EUR", copy.getCurrency());
+        assertEquals(250L, copy.getAmount());
+    }
+
+    /**
+     * An immutable class.
+     */
+    static class Money {
+
+        /**
+         * The number of instances created by the constructor.
+         */
+        static int created;
+
+        /**
+         * The amount.
+         */
+        private final long amount;
+
+        /**
+         * The currency.
+         */
+        private final String currency;
+
+        /**
+         * Creates an amount of money.
+         *
+         * @param currency The currency.
+         * @param amount   The amount.
+         */
+        Money(String currency, long amount) {
+            created++;
+
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        /**
+         * Returns the amount.
+         *
+         * @return The amount.
+         */
+        long getAmount() {
+            return amount;
+        }
+
+        /**
+         * Returns the currency.
+         *
+         * @return The currency.
+         */
+        String getCurrency() {
+            return currency;
+        }
+    }
+
+    /**
+     * An immutable subclass.
+     */
+    static final class TaggedMoney extends Money {
+
+        /**
+         * The tag.
+         */
+        private final String tag;
+
+        /**
+         * Creates a tagged amount of money.
+         *
+         * @param currency The currency.
+         * @param amount   The amount.
+         * @param tag      The tag.
+         */
+        TaggedMoney(String currency, long amount, String tag) {
+            super(currency, amount);
+
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that objects are compared as intended.
+ */
+public class DiffTest {
+
+    /**
+     * Verify that changed fields are reported with their paths and values.
+     */
+    @Test
+    public void diffTest() {
+        Person left = new Person("Ann", 30, new Address("Main"));
+        Person right = new Person("Ann", 31, new Address("Side"));
+
+        right.scores[1] = 9;
+
+        List<Difference> differences = Reflect.diff(left, right);
+
+        assertEquals(3, differences.size());
+        assertDifference("age", 30, 31, differences.get(0));
+        assertDifference("scores[1]", 2, 9, differences.get(1));
+        assertDifference("address.street", "Main", "Side", differences.get(2));
+    }
+
+    /**
+     * Verify that nested objects are compared using equals() at the depth limit.
+     */
+    @Test
+    public void diffDepthTest() {
+        Person left = new Person("Ann", 30, new Address("Main"));
+        Person right = new Person("Ann", 30, new Address("Main"));
+
+        List<Difference> differences = Reflect.diff(left, right, 1);
+
+        assertEquals(1, differences.size());
+        assertEquals("address", differences.get(0).getPath());
+        assertTrue(Reflect.diff(left, right).isEmpty());
+    }
+
+    /**
+     * Verify that identical and cyclic objects are handled.
+     */
+    @Test
+    public void diffIdenticalTest() {
+        Person left = new Person("Ann", 30, new Address("Main"));
+        Person right = new Person("Ann", 30, new Address("Main"));
+
+        left.friend = left;
+        right.friend = right;
+
+        assertTrue(Reflect.diff(left, left).isEmpty());
+        assertTrue(Reflect.diff(left, right).isEmpty());
+    }
+
+    /**
+     * Verify that JDK values without value equality are compared by their contents.
+     */
+    @Test
+    public void diffJdkTest() {
+        assertTrue(Reflect.diff(new AtomicInteger(1), new AtomicInteger(1)).isEmpty());
+        assertTrue(Reflect.diff(new StringBuilder("a"), new StringBuilder("a")).isEmpty());
+        assertTrue(Reflect.diff(new Object(), new Object()).isEmpty());
+        assertEquals(1, Reflect.diff(new AtomicInteger(1), new AtomicInteger(2)).size());
+        assertEquals(1, Reflect.diff(new StringBuilder("a"), new StringBuilder("b")).size());
+    }
+
+    /**
+     * Verify that JDK values with inaccessible fields are compared using equals().
+     */
+    @Test
+    public void diffValueTest() {
+        Timestamp left = new Timestamp(0);
+        Timestamp right = new Timestamp(5000);
+        Entity entity = new Entity();
+        Entity changed = new Entity();
+
+        entity.created = left;
+        changed.created = right;
+
+        assertEquals(1, Reflect.diff(left, right).size());
+        assertDifference("", left, right, Reflect.diff(left, right).get(0));
+        assertDifference("created", left, right, Reflect.diff(entity, changed).get(0));
+    }
+
+    /**
+     * Verify that a snapshot reports collections and dates changed in place.
+     */
+    @Test
+    public void snapshotMutableTest() {
+        Entity entity = new Entity();
+
+        entity.created = new Timestamp(0);
+        entity.tags.add("first");
+
+        Snapshot snapshot = Reflect.snapshot(entity);
+
+        entity.created.setTime(5000);
+        entity.tags.add("second");
+        entity.when.setTime(1000);
+
+        List<Difference> differences = snapshot.diff(entity);
+
+        assertEquals(3, differences.size());
+        assertDifference("created", new Timestamp(0), new Timestamp(5000), differences.get(0));
+        assertDifference("tags", Arrays.asList("first"), entity.tags, differences.get(1));
+        assertDifference("when", new Date(0), new Date(1000), differences.get(2));
+        assertTrue(Reflect.snapshot(entity).diff(entity).isEmpty());
+    }
+
+    /**
+     * Verify that a snapshot reports JDK values without value equality changed in place.
+     */
+    @Test
+    public void snapshotJdkTest() {
+        Entity entity = new Entity();
+        Snapshot snapshot = Reflect.snapshot(entity);
+
+        assertTrue(snapshot.diff(entity).isEmpty());
+
+        entity.counter.incrementAndGet();
+        entity.text.append("changed");
+
+        List<Difference> differences = snapshot.diff(entity);
+
+        assertEquals(2, differences.size());
+        assertDifference("counter", "0", entity.counter, differences.get(0));
+        assertDifference("text", "", entity.text, differences.get(1));
+    }
+
+    /**
+     * Verify that a snapshot reports changes made in place.
+     */
+    @Test
+    public void snapshotTest() {
+        Person person = new Person("Ann", 30, new Address("Main"));
+        Snapshot snapshot = Reflect.snapshot(person);
+
+        assertTrue(snapshot.diff(person).isEmpty());
+
+        person.address.street = "Side";
+        person.scores[0] = 5;
+        person.name = "Bob";
+
+        List<Difference> differences = snapshot.diff(person);
+
+        assertEquals(3, differences.size());
+        assertDifference("name", "Ann", "Bob", differences.get(0));
+        assertDifference("scores[0]", 1, 5, differences.get(1));
+        assertDifference("address.street", "Main", "Side", differences.get(2));
+    }
+
+    /**
+     * Asserts that a difference has the expected values.
+     *
+     * @param path     The expected path.
+     * @param oldValue The expected old value.
+     * @param newValue The expected new value.
+     * @param actual   The actual difference.
+     */
+    private static void assertDifference(
+        String path,
+        Object oldValue,
+        Object newValue,
+        Difference actual
+    ) {
+        assertEquals(path, actual.getPath());
+        assertEquals(oldValue, actual.getOldValue());
+        assertEquals(newValue, actual.getNewValue());
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Address {
+
+        /**
+         * The street.
+         */
+        String street;
+
+        /**
+         * Creates an address.
+         *
+         * @param street The street.
+         */
+        Address(String street) {
+            this.street = street;
+        }
+    }
+
+    /**
+     * A class with mutable JDK values, used for testing.
+     */
+    static class Entity {
+
+        /**
+         * A counter.
+         */
+        AtomicInteger counter = new AtomicInteger();
+
+        /**
+         * The creation time.
+         */
+        Timestamp created;
+
+        /**
+         * The tags.
+         */
+        List<String> tags = new ArrayList<>();
+
+        /**
+         * A text.
+         */
+        StringBuilder text = new StringBuilder();
+
+        /**
+         * The modification time.
+         */
+        Date when = new Date(0);
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Person {
+
+        /**
+         * The name.
+         */
+        String name;
+
+        /**
+         * The age.
+         */
+        int age;
+
+        /**
+         * The scores.
+         */
+        int[] scores = { 1, 2, 3 };
+
+        /**
+         * The address.
+         */
+        Address address;
+
+        /**
+         * A friend.
+         */
+        Person friend;
+
+        /**
+         * Creates a person.
+         *
+         * @param name    The name.
+         * @param age     The age.
+         * @param address The address.
+         */
+        Person(String name, int age, Address address) {
+            this.name = name;
+            this.age = age;
+            this.address = address;
+        }
+    }
+}
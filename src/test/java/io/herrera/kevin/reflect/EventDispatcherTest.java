@@ -0,0 +1,202 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that events are dispatched as intended.
+ */
+public class EventDispatcherTest {
+
+    /**
+     * The dispatcher under test.
+     */
+    private EventDispatcher dispatcher;
+
+    /**
+     * Verify that handlers are found by annotation, name, and inheritance.
+     */
+    @Test
+    public void dispatchTest() {
+        Listener listener = new Listener();
+
+        assertEquals(3, dispatcher.register(listener));
+        assertEquals(2, dispatcher.dispatch(new Created()));
+        assertEquals(1, dispatcher.dispatch("text"));
+        assertEquals(0, dispatcher.dispatch(42));
+
+        assertEquals(
+            Arrays.asList("created: Created", "event: Created", "string: text"),
+            listener.received
+        );
+    }
+
+    /**
+     * Verify that handler exceptions are rethrown.
+     */
+    @Test
+    public void dispatchExceptionTest() {
+        dispatcher.register(new Failing());
+
+        assertThrows(AlphaException.class, () -> dispatcher.dispatch(new Created()));
+    }
+
+    /**
+     * Verify that handlers are called using the executor.
+     */
+    @Test
+    public void dispatchExecutorTest() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        Listener listener = new Listener();
+
+        dispatcher = new EventDispatcher(executor);
+
+        dispatcher.register(listener);
+
+        assertEquals(2, dispatcher.dispatch(new Created()));
+        assertEquals(0, listener.received.size());
+
+        tasks.forEach(Runnable::run);
+
+        assertEquals(2, listener.received.size());
+    }
+
+    /**
+     * Verify that unregistered listeners no longer receive events.
+     */
+    @Test
+    public void unregisterTest() {
+        Listener first = new Listener();
+        Listener second = new Listener();
+
+        dispatcher.register(first);
+        dispatcher.register(second);
+
+        assertEquals(4, dispatcher.dispatch(new Created()));
+        assertEquals(3, dispatcher.unregister(first));
+        assertEquals(2, dispatcher.dispatch(new Created()));
+        assertEquals(2, first.received.size());
+        assertEquals(4, second.received.size());
+    }
+
+    /**
+     * Initializes the dispatcher under test.
+     */
+    @BeforeEach
+    public void setUp() {
+        dispatcher = new EventDispatcher();
+    }
+
+    /**
+     * An exception class used for testing.
+     */
+    static class AlphaException extends Exception {
+
+        /**
+         * The serial version.
+         */
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * An event used for testing.
+     */
+    static class Created extends Event {
+    }
+
+    /**
+     * An event used for testing.
+     */
+    static class Event {
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * A listener that always fails.
+     */
+    static class Failing {
+
+        /**
+         * Handles any event.
+         *
+         * @param event The event.
+         *
+         * @throws AlphaException Always.
+         */
+        @Subscribe
+        private void fail(Event event) throws AlphaException {
+            throw new AlphaException();
+        }
+    }
+
+    /**
+     * A base listener used for testing.
+     */
+    static class BaseListener {
+
+        /**
+         * The received events.
+         */
+        final List<String> received = new ArrayList<>();
+
+        /**
+         * Handles any event.
+         *
+         * @param event The event.
+         */
+        @Subscribe
+        void handle(Event event) {
+            received.add("event: " + event);
+        }
+    }
+
+    /**
+     * A listener used for testing.
+     */
+    static class Listener extends BaseListener {
+
+        /**
+         * Handles created events by naming convention.
+         *
+         * @param event The event.
+         */
+        void onCreated(Created event) {
+            received.add("created: " + event);
+        }
+
+        /**
+         * Handles strings.
+         *
+         * @param string The string.
+         *
+         * @return Ignored.
+         */
+        @Subscribe
+        private String string(String string) {
+            received.add("string: " + string);
+
+            return string;
+        }
+
+        /**
+         * Not a handler.
+         *
+         * @param event The event.
+         */
+        void ignored(Event event) {
+            received.add("ignored");
+        }
+    }
+}
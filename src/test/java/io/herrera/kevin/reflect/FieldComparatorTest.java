@@ -0,0 +1,138 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the field comparator functions as intended.
+ */
+public class FieldComparatorTest {
+
+    /**
+     * Verify that fields are compared in order and direction.
+     */
+    @Test
+    public void compareTest() {
+        FieldComparator<Person> comparator = Reflect.comparator(
+            Person.class,
+            "lastName",
+            "-age"
+        );
+
+        Person older = new Person("Doe", "Ann", 40, 1.0);
+        Person younger = new Person("Doe", "Bob", 30, 1.0);
+        Person other = new Person("Roe", "Cat", 50, 1.0);
+
+        assertTrue(comparator.compare(older, younger) < 0);
+        assertTrue(comparator.compare(younger, other) < 0);
+        assertEquals(0, comparator.compare(older, older));
+    }
+
+    /**
+     * Verify that an exception is thrown if no fields are given.
+     */
+    @Test
+    public void compareExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> Reflect.comparator(Person.class));
+        assertThrows(NoSuchFieldException.class, () -> Reflect.comparator(Person.class, "nope"));
+    }
+
+    /**
+     * Verify that null values are ordered as requested.
+     */
+    @Test
+    public void nullsTest() {
+        Person named = new Person("Doe", "Ann", 40, 1.0);
+        Person unnamed = new Person(null, "Bob", 30, 1.0);
+
+        FieldComparator<Person> comparator = Reflect.comparator(Person.class, "-lastName");
+
+        assertTrue(comparator.compare(unnamed, named) < 0);
+        assertTrue(comparator.nullsLast().compare(unnamed, named) > 0);
+        assertTrue(comparator.nullsLast().nullsFirst().compare(unnamed, named) < 0);
+    }
+
+    /**
+     * Verify that sorting by extracted keys matches sorting with the comparator.
+     */
+    @Test
+    public void sortTest() {
+        Random random = new Random(42);
+        List<Person> people = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            people.add(
+                new Person(
+                    random.nextInt(10) == 0 ? null : "L" + random.nextInt(20),
+                    "F" + i,
+                    random.nextInt(5),
+                    random.nextDouble()
+                )
+            );
+        }
+
+        FieldComparator<Person> comparator = Reflect
+            .comparator(Person.class, "lastName", "-age", "score")
+            .nullsLast();
+
+        List<Person> expected = new ArrayList<>(people);
+        List<Person> actual = new ArrayList<>(people);
+        Person[] array = people.toArray(new Person[0]);
+
+        expected.sort(comparator);
+        comparator.sort(actual);
+        comparator.sort(array);
+
+        assertEquals(expected, actual);
+        assertArrayEquals(expected.toArray(), array);
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Person {
+
+        /**
+         * The last name.
+         */
+        private String lastName;
+
+        /**
+         * The first name.
+         */
+        private String firstName;
+
+        /**
+         * The age.
+         */
+        private short age;
+
+        /**
+         * The score.
+         */
+        private double score;
+
+        /**
+         * Creates a person.
+         *
+         * @param lastName  The last name.
+         * @param firstName The first name.
+         * @param age       The age.
+         * @param score     The score.
+         */
+        Person(String lastName, String firstName, int age, double score) {
+            this.lastName = lastName;
+            this.firstName = firstName;
+            this.age = (short) age;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the members of a class hierarchy are streamed as intended.
+ */
+public class HierarchyTest {
+
+    /**
+     * Verify that fields are streamed subclass first, then interfaces.
+     */
+    @Test
+    public void fieldsTest() {
+        List<String> names = Reflect
+            .on(Child.class)
+            .fields()
+            .map(Field::getName)
+            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("childField", "parentField", "NAMED", "ROOT"), names);
+        assertEquals(
+            "childField",
+            Reflect.on(new Child()).fields().findFirst().get().getName()
+        );
+    }
+
+    /**
+     * Verify that a superclass is not reflected until the stream asks for its members.
+     */
+    @Test
+    public void lazyTest() throws Exception {
+        Class<?> deep = new HidingLoader().loadClass(Deep.class.getName());
+
+        assertEquals("deepField", Reflect.on(deep).fields().findFirst().get().getName());
+        assertThrows(NoClassDefFoundError.class, () -> Reflect.on(deep).fields().count());
+    }
+
+    /**
+     * Verify that methods are streamed subclass first, then interfaces, and that overridden
+     * methods are returned once per declaring type.
+     */
+    @Test
+    public void methodsTest() {
+        List<String> declarers = Reflect
+            .on(Child.class)
+            .methods()
+            .filter(method -> method.getName().equals("name"))
+            .map(method -> method.getDeclaringClass().getSimpleName())
+            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("Child", "Parent", "Named"), declarers);
+        assertTrue(
+            Reflect
+                .on(Child.class)
+                .methods()
+                .anyMatch(method -> method.getName().equals("hashCode"))
+        );
+        assertTrue(
+            Reflect
+                .on(Root.class)
+                .methods()
+                .anyMatch(method -> method.getName().equals("root"))
+        );
+    }
+
+    /**
+     * Verify that every stream returns the same cached members.
+     */
+    @Test
+    public void sharedTest() {
+        Method first = Reflect.on(Child.class).methods().findFirst().get();
+        Method second = Reflect.on(Child.class).methods().findFirst().get();
+
+        assertSame(first, second);
+        assertSame(
+            Reflect.on(Parent.class).fields().findFirst().get(),
+            Reflect.on(Child.class).fields().skip(1).findFirst().get()
+        );
+    }
+
+    /**
+     * A subclass.
+     */
+    static class Child extends Parent implements Named {
+
+        /**
+         * A field of the subclass.
+         */
+        private int childField;
+
+        @Override
+        public String name() {
+            return "child";
+        }
+    }
+
+    /**
+     * A subclass whose superclass cannot be reflected.
+     */
+    static class Deep extends Shallow {
+
+        /**
+         * A field of the subclass.
+         */
+        private int deepField;
+    }
+
+    /**
+     * A class loader that defines its own copies of {@link Deep} and {@link Shallow}, but cannot
+     * find {@link Missing}, so that reflecting the fields of {@link Shallow} fails.
+     */
+    private static final class HidingLoader extends ClassLoader {
+
+        /**
+         * Creates a class loader.
+         */
+        private HidingLoader() {
+            super(HierarchyTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                if (name.equals(Missing.class.getName())) {
+                    throw new ClassNotFoundException(name);
+                } else if (!name.equals(Deep.class.getName())
+                    && !name.equals(Shallow.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+
+                Class<?> loaded = findLoadedClass(name);
+
+                if (loaded == null) {
+                    byte[] bytes = read(name.substring(name.lastIndexOf('.') + 1) + ".class");
+
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+
+                return loaded;
+            }
+        }
+
+        /**
+         * Reads the bytecode of a class.
+         *
+         * @param resource The name of the class file.
+         *
+         * @return The bytecode.
+         *
+         * @throws ClassNotFoundException If the class file could not be read.
+         */
+        private static byte[] read(String resource) throws ClassNotFoundException {
+            try (InputStream input = HierarchyTest.class.getResourceAsStream(resource)) {
+                if (input == null) {
+                    throw new ClassNotFoundException(resource);
+                }
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+
+                for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+                    output.write(buffer, 0, read);
+                }
+
+                return output.toByteArray();
+            } catch (IOException cause) {
+                throw new ClassNotFoundException(resource, cause);
+            }
+        }
+    }
+
+    /**
+     * A class that is hidden from the fields of {@link Shallow}.
+     */
+    static class Missing {
+    }
+
+    /**
+     * An interface extended by another.
+     */
+    interface Named extends Root {
+
+        /**
+         * A constant of the interface.
+         */
+        String NAMED = "named";
+
+        /**
+         * Returns the name.
+         *
+         * @return The name.
+         */
+        String name();
+    }
+
+    /**
+     * A superclass.
+     */
+    static class Parent implements Named {
+
+        /**
+         * A field of the superclass.
+         */
+        private int parentField;
+
+        @Override
+        public String name() {
+            return "parent";
+        }
+    }
+
+    /**
+     * The root interface.
+     */
+    interface Root {
+
+        /**
+         * A constant of the interface.
+         */
+        String ROOT = "root";
+
+        /**
+         * Returns the root.
+         *
+         * @return The root.
+         */
+        default String root() {
+            return ROOT;
+        }
+    }
+
+    /**
+     * A superclass with a field whose type cannot be loaded.
+     */
+    static class Shallow {
+
+        /**
+         * A field of a missing type.
+         */
+        private Missing missing;
+    }
+}
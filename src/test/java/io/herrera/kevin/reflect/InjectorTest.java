@@ -0,0 +1,244 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that injectors function as intended.
+ */
+public class InjectorTest {
+
+    /**
+     * Verify that converters and default values are applied.
+     */
+    @Test
+    public void convertTest() {
+        Injector<Entity> injector = Reflect
+            .injector(Entity.class)
+            .converter(String.class, Object::toString)
+            .defaultValue("active", true)
+            .defaultValue("name", "unknown")
+            .build("id", "name", "price", "active");
+        Map<String, Object> values = new HashMap<>();
+
+        values.put("id", 3L);
+        values.put("price", new BigDecimal("1.5"));
+
+        Entity entity = injector.inject(new Entity(), values);
+
+        assertEquals(3, entity.id);
+        assertEquals("unknown", entity.name);
+        assertEquals(1.5, entity.price);
+        assertEquals(true, entity.active);
+
+        values.put("name", 42);
+
+        assertEquals("42", injector.inject(new Entity(), values).name);
+    }
+
+    /**
+     * Verify that every writable field is populated by default.
+     */
+    @Test
+    public void defaultKeysTest() {
+        Injector<Entity> injector = Reflect.injector(Entity.class).build();
+        Entity entity = injector.inject(new Entity(), key -> key.equals("name") ? "named" : null);
+
+        assertEquals(
+            Arrays.asList("active", "id", "name", "price"),
+            injector
+                .getFields()
+                .stream()
+                .map(field -> field.getName())
+                .sorted()
+                .collect(Collectors.toList())
+        );
+        assertEquals("named", entity.name);
+        assertEquals(0, entity.id);
+        assertEquals(Entity.class, injector.getPopulatedClass());
+    }
+
+    /**
+     * Verify that many maps are injected.
+     */
+    @Test
+    public void injectAllTest() {
+        Map<String, Object> first = new HashMap<>();
+        Map<String, Object> second = new HashMap<>();
+
+        first.put("id", 1);
+        second.put("id", 2);
+
+        List<Entity> entities = Reflect
+            .injector(Entity.class)
+            .build("id")
+            .injectAll(Entity::new, Arrays.asList(first, second));
+
+        assertEquals(1, entities.get(0).id);
+        assertEquals(2, entities.get(1).id);
+    }
+
+    /**
+     * Verify that keys are matched to fields.
+     */
+    @Test
+    public void mappingTest() {
+        Injector<Entity> injector = Reflect
+            .injector(Entity.class)
+            .map("label", "name")
+            .build("ID", "label", "unknown", "created_by");
+        Map<String, Object> values = new HashMap<>();
+
+        values.put("ID", 7);
+        values.put("label", "mapped");
+        values.put("created_by", "ignored");
+
+        Entity entity = injector.inject(new Entity(), values);
+
+        assertEquals(7, entity.id);
+        assertEquals("mapped", entity.name);
+        assertEquals("system", entity.createdBy);
+        assertEquals(2, injector.getFields().size());
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Reflect.injector(Entity.class).map("key", "missing").build("key")
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Reflect.injector(Entity.class).map("key", "createdBy").build("key")
+        );
+    }
+
+    /**
+     * Verify that the rows of a result set are injected.
+     */
+    @Test
+    public void resultSetTest() {
+        ResultSet rows = resultSet(
+            new String[] { "id", "name", "price", "active" },
+            new Object[] { 1, "first", 1.25, true },
+            new Object[] { 2, null, null, null }
+        );
+        Injector<Entity> injector = Reflect
+            .injector(Entity.class)
+            .defaultValue("price", 9.99)
+            .build(metadata(rows));
+        List<Entity> entities = injector.injectAll(Entity::new, rows);
+
+        assertEquals(2, entities.size());
+        assertEquals(1, entities.get(0).id);
+        assertEquals("first", entities.get(0).name);
+        assertEquals(1.25, entities.get(0).price);
+        assertEquals(true, entities.get(0).active);
+        assertEquals(2, entities.get(1).id);
+        assertNull(entities.get(1).name);
+        assertEquals(9.99, entities.get(1).price);
+        assertEquals(false, entities.get(1).active);
+    }
+
+    /**
+     * Returns the metadata of a fake result set.
+     *
+     * @param rows The result set.
+     *
+     * @return The metadata.
+     */
+    private static ResultSetMetaData metadata(ResultSet rows) {
+        try {
+            return rows.getMetaData();
+        } catch (SQLException cause) {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Creates a fake result set.
+     *
+     * @param labels The column labels.
+     * @param rows   The rows.
+     *
+     * @return The result set.
+     */
+    private static ResultSet resultSet(String[] labels, Object[]... rows) {
+        int[] cursor = { -1 };
+        boolean[] wasNull = { false };
+        ResultSetMetaData metadata = (ResultSetMetaData) Proxy.newProxyInstance(
+            InjectorTest.class.getClassLoader(),
+            new Class<?>[] { ResultSetMetaData.class },
+            (proxy, method, arguments) -> method.getName().equals("getColumnCount")
+                ? (Object) labels.length
+                : labels[(Integer) arguments[0] - 1]
+        );
+
+        return (ResultSet) Proxy.newProxyInstance(
+            InjectorTest.class.getClassLoader(),
+            new Class<?>[] { ResultSet.class },
+            (proxy, method, arguments) -> {
+                switch (method.getName()) {
+                    case "getMetaData":
+                        return metadata;
+                    case "next":
+                        return ++cursor[0] < rows.length;
+                    case "wasNull":
+                        return wasNull[0];
+                    default:
+                        Object value = rows[cursor[0]][(Integer) arguments[0] - 1];
+
+                        wasNull[0] = value == null;
+
+                        if (value == null && method.getReturnType().isPrimitive()) {
+                            return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+                        }
+
+                        return value;
+                }
+            }
+        );
+    }
+
+    /**
+     * A class populated by injectors.
+     */
+    static class Entity {
+
+        /**
+         * A boolean field.
+         */
+        boolean active;
+
+        /**
+         * A final field.
+         */
+        final String createdBy = "system";
+
+        /**
+         * An int field.
+         */
+        int id;
+
+        /**
+         * A reference field.
+         */
+        String name;
+
+        /**
+         * A double field.
+         */
+        double price;
+    }
+}
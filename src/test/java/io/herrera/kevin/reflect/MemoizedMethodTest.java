@@ -0,0 +1,323 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that memoized methods function as intended.
+ */
+public class MemoizedMethodTest {
+
+    /**
+     * Verify that concurrent identical calls invoke the method once.
+     */
+    @Test
+    public void invokeConcurrentTest() throws Exception {
+        Config config = new Config();
+        MemoizedMethod method = Reflect.memoize(resolve()).build();
+
+        invokeTogether(method, config, "key");
+
+        assertEquals(1, config.calls.get());
+        assertEquals(1, method.size());
+    }
+
+    /**
+     * Verify that exceptions are rethrown and not cached.
+     */
+    @Test
+    public void invokeExceptionTest() {
+        Config config = new Config();
+        MemoizedMethod method = Reflect.memoize(resolve()).build();
+
+        assertThrows(IllegalStateException.class, () -> method.invoke(config, "fail"));
+        assertThrows(IllegalStateException.class, () -> method.invoke(config, "fail"));
+        assertEquals(2, config.calls.get());
+        assertEquals(0, method.size());
+    }
+
+    /**
+     * Verify that results expire.
+     */
+    @Test
+    public void invokeExpireTest() throws Exception {
+        Config config = new Config();
+        MemoizedMethod method = Reflect
+            .memoize(resolve())
+            .expireAfterWrite(Duration.ofMillis(10))
+            .build();
+
+        method.invoke(config, "key");
+        Thread.sleep(20);
+        method.invoke(config, "key");
+
+        assertEquals(2, config.calls.get());
+    }
+
+    /**
+     * Verify that the least recently used result is evicted.
+     */
+    @Test
+    public void invokeLruTest() {
+        Config config = new Config();
+        MemoizedMethod method = Reflect.memoize(resolve()).maximumSize(2).stripes(1).build();
+
+        method.invoke(config, "a");
+        method.invoke(config, "b");
+        method.invoke(config, "a");
+        method.invoke(config, "c");
+        method.invoke(config, "a");
+
+        assertEquals(3, config.calls.get());
+        assertEquals(2, method.size());
+
+        method.invoke(config, "b");
+
+        assertEquals(4, config.calls.get());
+    }
+
+    /**
+     * Verify that results are cached by target and arguments.
+     */
+    @Test
+    public void invokeTest() {
+        Config first = new Config();
+        Config second = new Config();
+        MemoizedMethod method = Reflect.memoize(resolve()).weakTargets().build();
+
+        assertEquals("resolved a", method.invoke(first, "a"));
+        assertEquals("resolved a", method.invoke(first, "a"));
+        assertEquals("resolved b", method.invoke(first, "b"));
+        assertEquals("resolved a", method.invoke(second, "a"));
+        assertEquals(2, first.calls.get());
+        assertEquals(1, second.calls.get());
+        assertEquals(3, method.size());
+
+        method.invalidateAll();
+        method.invoke(first, "a");
+
+        assertEquals(3, first.calls.get());
+    }
+
+    /**
+     * Verify that concurrent identical calls share a result that is not admitted to the cache.
+     */
+    @Test
+    public void invokeTinyLfuRejectedTest() throws Exception {
+        Config config = new Config();
+        MemoizedMethod method = Reflect
+            .memoize(resolve())
+            .eviction(MemoizedMethod.Eviction.TINY_LFU)
+            .maximumSize(1)
+            .stripes(1)
+            .build();
+
+        for (int i = 0; i < 5; i++) {
+            method.invoke(config, "hot");
+        }
+
+        invokeTogether(method, config, "cold");
+
+        assertEquals(2, config.calls.get());
+
+        method.invoke(config, "cold");
+
+        assertEquals(3, config.calls.get());
+    }
+
+    /**
+     * Verify that rarely used results do not displace frequently used ones.
+     */
+    @Test
+    public void invokeTinyLfuTest() {
+        Config config = new Config();
+        MemoizedMethod method = Reflect
+            .memoize(resolve())
+            .eviction(MemoizedMethod.Eviction.TINY_LFU)
+            .maximumSize(1)
+            .stripes(1)
+            .build();
+
+        for (int i = 0; i < 5; i++) {
+            method.invoke(config, "hot");
+        }
+
+        method.invoke(config, "cold");
+        method.invoke(config, "hot");
+
+        assertEquals(2, config.calls.get());
+    }
+
+    /**
+     * Verify that the frequency sketch is only allocated for bounded caches.
+     */
+    @Test
+    public void invokeTinyLfuUnboundedTest() {
+        Config config = new Config();
+        MemoizedMethod.Builder builder = Reflect
+            .memoize(resolve())
+            .eviction(MemoizedMethod.Eviction.TINY_LFU);
+        Object[] unbounded = Reflect.getFieldValue(builder.build(), "stripes");
+        Object[] bounded = Reflect.getFieldValue(builder.maximumSize(100).build(), "stripes");
+
+        assertNull(Reflect.getFieldValue(unbounded[0], "sketch"));
+        assertNotNull(Reflect.getFieldValue(bounded[0], "sketch"));
+
+        MemoizedMethod method = builder.maximumSize(Long.MAX_VALUE).build();
+
+        method.invoke(config, "a");
+        method.invoke(config, "a");
+
+        assertEquals(1, config.calls.get());
+    }
+
+    /**
+     * Verify that the results of garbage collected targets are discarded.
+     */
+    @Test
+    public void invokeWeakTargetsTest() throws Exception {
+        Config kept = new Config();
+        MemoizedMethod method = Reflect.memoize(resolve()).weakTargets().build();
+
+        method.invoke(new Config(), "a");
+        method.invoke(kept, "a");
+
+        assertEquals(2, method.size());
+
+        for (int i = 0; i < 100 && method.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+
+            // Collected targets are discarded on the next invocation.
+            method.invoke(kept, "a");
+        }
+
+        assertEquals(1, method.size());
+        assertEquals(1, kept.calls.get());
+    }
+
+    /**
+     * Verify that the cache never holds more results than its maximum size.
+     */
+    @Test
+    public void maximumSizeTest() {
+        Config config = new Config();
+        MemoizedMethod one = Reflect.memoize(resolve()).maximumSize(1).build();
+        MemoizedMethod twenty = Reflect.memoize(resolve()).maximumSize(20).build();
+
+        for (int i = 0; i < 100; i++) {
+            one.invoke(config, "key " + i);
+            twenty.invoke(config, "key " + i);
+        }
+
+        assertEquals(1, one.size());
+        assertTrue(twenty.size() <= 20);
+    }
+
+    /**
+     * Invokes a method from two threads at once, and releases the computation only once the
+     * second thread is waiting inside the memoized method.
+     *
+     * @param method The memoized method.
+     * @param config The target.
+     * @param key    The argument.
+     */
+    private static void invokeTogether(MemoizedMethod method, Config config, String key)
+        throws Exception {
+        String[] results = new String[2];
+        Thread first = new Thread(() -> results[0] = method.invoke(config, key));
+        Thread second = new Thread(() -> results[1] = method.invoke(config, key));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        config.entered = new CountDownLatch(1);
+        config.gate = new CountDownLatch(1);
+
+        first.start();
+
+        assertTrue(config.entered.await(5, TimeUnit.SECONDS));
+
+        second.start();
+
+        while (second.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "The second call did not wait.");
+
+            Thread.yield();
+        }
+
+        config.gate.countDown();
+        first.join(5000);
+        second.join(5000);
+        config.entered = null;
+        config.gate = null;
+
+        assertEquals("resolved " + key, results[0]);
+        assertEquals("resolved " + key, results[1]);
+    }
+
+    /**
+     * Returns the method under test.
+     *
+     * @return The method.
+     */
+    private static Method resolve() {
+        return Reflect.findMethod(Config.class, "resolve", String.class);
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Config {
+
+        /**
+         * The number of calls.
+         */
+        final AtomicInteger calls = new AtomicInteger();
+
+        /**
+         * Counted down when a call starts, if set.
+         */
+        volatile CountDownLatch entered;
+
+        /**
+         * Blocks calls until opened, if set.
+         */
+        volatile CountDownLatch gate;
+
+        /**
+         * Resolves a key.
+         *
+         * @param key The key.
+         *
+         * @return The resolved value.
+         *
+         * @throws InterruptedException If interrupted.
+         */
+        private String resolve(String key) throws InterruptedException {
+            calls.incrementAndGet();
+
+            if (entered != null) {
+                entered.countDown();
+            }
+
+            if (gate != null) {
+                gate.await();
+            }
+
+            if (key.equals("fail")) {
+                throw new IllegalStateException("Failed.");
+            }
+
+            return "resolved " + key;
+        }
+    }
+}
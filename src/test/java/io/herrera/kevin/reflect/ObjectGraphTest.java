@@ -0,0 +1,132 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the object graph walker functions as intended.
+ */
+public class ObjectGraphTest {
+
+    /**
+     * Verify that cycles are visited only once.
+     */
+    @Test
+    public void walkCycleTest() {
+        Node first = new Node();
+        Node second = new Node();
+
+        first.next = second;
+        second.next = first;
+
+        List<Object> visited = new ArrayList<>();
+
+        assertEquals(2, ObjectGraph.walk(first, visited::add));
+        assertEquals(2, visited.size());
+        assertSame(first, visited.get(0));
+        assertSame(second, visited.get(1));
+    }
+
+    /**
+     * Verify that deep graphs do not overflow the stack.
+     */
+    @Test
+    public void walkDeepTest() {
+        Node root = new Node();
+        Node current = root;
+
+        for (int i = 0; i < 100_000; i++) {
+            current.next = new Node();
+            current = current.next;
+        }
+
+        assertEquals(100_001, ObjectGraph.walk(root, object -> true));
+    }
+
+    /**
+     * Verify that inherited fields and array elements are followed.
+     */
+    @Test
+    public void walkInheritedTest() {
+        Leaf leaf = new Leaf();
+        Object[] array = { "a", null, "b" };
+
+        leaf.next = new Node();
+        leaf.values = array;
+
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        ObjectGraph.walk(leaf, visited::add);
+
+        assertTrue(visited.contains(leaf.next));
+        assertTrue(visited.contains(array));
+        assertTrue(visited.contains(array[0]));
+        assertTrue(visited.contains(array[2]));
+    }
+
+    /**
+     * Verify that the contents of JDK collections are followed.
+     */
+    @Test
+    public void walkJdkTest() {
+        HashMap<Object, Object> map = new HashMap<>();
+        List<Object> list = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(new Node(), new Node());
+            list.add(new Node());
+        }
+
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        ObjectGraph.walk(map, visited::add);
+
+        assertTrue(visited.containsAll(map.keySet()));
+        assertTrue(visited.containsAll(map.values()));
+        assertTrue(ObjectGraph.walk(list, object -> true) > 1000);
+    }
+
+    /**
+     * Verify that references are not followed if the visitor declines.
+     */
+    @Test
+    public void walkPruneTest() {
+        Node root = new Node();
+
+        root.next = new Node();
+        root.next.next = new Node();
+
+        assertEquals(2, ObjectGraph.walk(root, object -> object == root));
+    }
+
+    /**
+     * A linked node used for testing.
+     */
+    static class Node {
+
+        /**
+         * The next node.
+         */
+        Node next;
+    }
+
+    /**
+     * A subclass used for testing.
+     */
+    static class Leaf extends Node {
+
+        /**
+         * The values of the leaf.
+         */
+        Object[] values;
+    }
+}
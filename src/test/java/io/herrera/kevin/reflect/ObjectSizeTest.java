@@ -0,0 +1,112 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the object size estimator functions as intended.
+ */
+public class ObjectSizeTest {
+
+    /**
+     * Verify that the deep size includes every reachable object once.
+     */
+    @Test
+    public void deepSizeOfTest() {
+        Pair pair = new Pair();
+        long[] values = new long[10];
+
+        pair.left = values;
+        pair.right = values;
+
+        assertEquals(
+            ObjectSize.shallowSizeOf(pair) + ObjectSize.shallowSizeOf(values),
+            ObjectSize.deepSizeOf(pair)
+        );
+    }
+
+    /**
+     * Verify that the deep size includes the contents of JDK collections and strings.
+     */
+    @Test
+    public void deepSizeOfCollectionTest() {
+        List<Long> list = new ArrayList<>();
+        Map<Long, Long> map = new HashMap<>();
+        StringBuilder text = new StringBuilder();
+
+        for (long i = 0; i < 1000; i++) {
+            list.add(i + 1000);
+            map.put(i + 1000, i + 1000);
+            text.append('a');
+        }
+
+        long boxed = ObjectSize.shallowSizeOf(1000L);
+
+        assertTrue(ObjectSize.deepSizeOf(list) > 1000 * boxed);
+        assertTrue(ObjectSize.deepSizeOf(map) > 1000 * (boxed + ObjectSize.shallowSizeOf(map)));
+        assertTrue(ObjectSize.deepSizeOf(text.toString()) >= 1000);
+    }
+
+    /**
+     * Verify that the shallow size of arrays scales with their length.
+     */
+    @Test
+    public void shallowSizeOfArrayTest() {
+        long empty = ObjectSize.shallowSizeOf(new long[0]);
+
+        assertEquals(empty + 80, ObjectSize.shallowSizeOf(new long[10]));
+        assertEquals(0, ObjectSize.shallowSizeOf(new byte[3]) % 8);
+    }
+
+    /**
+     * Verify that the shallow size is aligned and includes inherited fields.
+     */
+    @Test
+    public void shallowSizeOfTest() {
+        long pair = ObjectSize.shallowSizeOf(new Pair());
+        long triple = ObjectSize.shallowSizeOf(new Triple());
+
+        assertEquals(0, pair % 8);
+        assertEquals(0, triple % 8);
+        assertTrue(triple > pair);
+        assertTrue(ObjectSize.shallowSizeOf(new Object()) >= 8);
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Pair {
+
+        /**
+         * The left value.
+         */
+        Object left;
+
+        /**
+         * The right value.
+         */
+        Object right;
+    }
+
+    /**
+     * A subclass used for testing.
+     */
+    static class Triple extends Pair {
+
+        /**
+         * The first extra value.
+         */
+        long first;
+
+        /**
+         * The second extra value.
+         */
+        long second;
+    }
+}
@@ -0,0 +1,133 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the profiler functions as intended.
+ */
+public class ProfilerTest {
+
+    /**
+     * A field used for testing.
+     */
+    private String value = "value";
+
+    /**
+     * Verify that nothing is recorded while disabled.
+     */
+    @Test
+    public void disabledTest() {
+        Reflect.getFieldValue(this, "value");
+
+        assertTrue(Profiler.report().isEmpty());
+    }
+
+    /**
+     * Verify that the report ranks the call sites.
+     */
+    @Test
+    public void dumpTest() {
+        Profiler.enable(1);
+
+        Reflect.findField(ProfilerTest.class, "value");
+
+        String dump = Profiler.dump(10);
+
+        assertTrue(dump.contains("findField"));
+        assertTrue(dump.contains("ProfilerTest.dumpTest"));
+        assertThrows(IllegalArgumentException.class, () -> Profiler.dump(-1));
+    }
+
+    /**
+     * Verify that an invalid interval is rejected.
+     */
+    @Test
+    public void enableExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> Profiler.enable(0));
+    }
+
+    /**
+     * Verify that calls made from inside a lambda are attributed to the lambda.
+     */
+    @Test
+    public void reportLambdaTest() {
+        Profiler.enable(1);
+
+        Runnable runnable = () -> Reflect.getFieldValue(this, "value");
+
+        runnable.run();
+
+        List<Profiler.Entry> entries = Profiler.report();
+
+        assertEquals(1, entries.size());
+        assertEquals(ProfilerTest.class.getName(), entries.get(0).getCaller().getClassName());
+        assertTrue(entries.get(0).getCaller().getMethodName().startsWith("lambda$"));
+    }
+
+    /**
+     * Verify that calls are attributed to the calling stack frame.
+     */
+    @Test
+    public void reportTest() {
+        Profiler.enable(1);
+
+        for (int i = 0; i < 3; i++) {
+            Reflect.on(this).set("value", "changed");
+        }
+
+        Reflect.getFieldValue(this, "value");
+
+        List<Profiler.Entry> entries = Profiler.report();
+
+        assertEquals(2, entries.size());
+
+        for (Profiler.Entry entry : entries) {
+            assertEquals(ProfilerTest.class.getName(), entry.getCaller().getClassName());
+            assertEquals("reportTest", entry.getCaller().getMethodName());
+
+            if (entry.getOperation().equals("set")) {
+                assertEquals(3, entry.getSamples());
+                assertEquals(3, entry.getEstimatedCalls());
+            } else {
+                assertEquals("get", entry.getOperation());
+                assertEquals(1, entry.getSamples());
+            }
+        }
+    }
+
+    /**
+     * Verify that calls made through other classes of the library are attributed to their caller.
+     */
+    @Test
+    public void reportIndirectTest() {
+        Profiler.enable(1);
+
+        Template.of(ProfilerTest.class).field("value");
+        FieldComparator.of(ProfilerTest.class, "value");
+
+        List<Profiler.Entry> entries = Profiler.report();
+
+        assertEquals(2, entries.size());
+
+        for (Profiler.Entry entry : entries) {
+            assertEquals("findField", entry.getOperation());
+            assertEquals(ProfilerTest.class.getName(), entry.getCaller().getClassName());
+            assertEquals("reportIndirectTest", entry.getCaller().getMethodName());
+        }
+    }
+
+    /**
+     * Disables the profiler and discards the samples.
+     */
+    @AfterEach
+    public void tearDown() {
+        Profiler.disable();
+        Profiler.reset();
+    }
+}
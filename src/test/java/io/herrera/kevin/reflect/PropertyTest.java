@@ -0,0 +1,296 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that properties are found and used as intended.
+ */
+public class PropertyTest {
+
+    /**
+     * Verify that JavaBeans accessors are paired with their fields.
+     */
+    @Test
+    public void beanTest() {
+        Map<String, Property> properties = Reflect.properties(Bean.class);
+        Property name = properties.get("name");
+        Bean bean = new Bean();
+
+        assertEquals(Arrays.asList("URL", "active", "count", "name", "total"), Arrays.asList(
+            properties.keySet().toArray()
+        ));
+        assertEquals(String.class, name.getType());
+        assertEquals("name", name.getField().getName());
+        assertEquals("getName", name.getGetter().getName());
+        assertEquals("setName", name.getSetter().getName());
+
+        name.set(bean, "changed");
+
+        assertEquals("changed", name.get(bean));
+        assertEquals("changed!", bean.name);
+        assertTrue(properties.get("active").getBoolean(bean));
+        assertNull(properties.get("URL").getField());
+    }
+
+    /**
+     * Verify that the properties are found once per class.
+     */
+    @Test
+    public void cacheTest() {
+        assertSame(Reflect.properties(Bean.class), Reflect.properties(Bean.class));
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> Reflect.properties(Bean.class).clear()
+        );
+    }
+
+    /**
+     * Verify that properties missing a getter or setter are read or written using the field.
+     */
+    @Test
+    public void fieldTest() {
+        Map<String, Property> properties = Reflect.properties(Bean.class);
+        Property count = properties.get("count");
+        Property total = properties.get("total");
+        Bean bean = new Bean();
+
+        assertTrue(count.isReadable());
+        assertTrue(count.isWritable());
+        assertNull(count.getGetter());
+        assertEquals(0, count.getInt(bean));
+
+        count.setInt(bean, 3);
+
+        assertEquals(3, bean.count);
+        assertEquals(3, (int) count.get(bean));
+
+        assertTrue(total.isReadable());
+        assertFalse(total.isWritable());
+        assertEquals(42L, total.getLong(bean));
+        assertThrows(UnsupportedOperationException.class, () -> total.set(bean, 1L));
+    }
+
+    /**
+     * Verify that primitive values are widened but never narrowed.
+     */
+    @Test
+    public void primitiveTest() {
+        Property count = Reflect.properties(Bean.class).get("count");
+        Property total = Reflect.properties(Bean.class).get("total");
+        Bean bean = new Bean();
+
+        count.setInt(bean, 7);
+
+        assertEquals(7L, count.getLong(bean));
+        assertEquals(7.0, count.getDouble(bean));
+        assertEquals(42.0, total.getDouble(bean));
+        assertThrows(IllegalArgumentException.class, () -> total.getInt(bean));
+        assertThrows(IllegalArgumentException.class, () -> count.getBoolean(bean));
+        assertThrows(IllegalArgumentException.class, () -> count.setLong(bean, 1L));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Reflect.properties(Bean.class).get("name").getInt(bean)
+        );
+    }
+
+    /**
+     * Verify that accessors named after their fields are recognized.
+     */
+    @Test
+    public void recordTest() {
+        Map<String, Property> properties = Reflect.properties(Size.class);
+        Size size = new Size(1, 2);
+
+        assertEquals(Arrays.asList("height", "label", "width"), Arrays.asList(
+            properties.keySet().toArray()
+        ));
+        assertEquals(1, properties.get("width").getInt(size));
+        assertEquals("width", properties.get("width").getGetter().getName());
+        assertFalse(properties.get("width").isWritable());
+
+        properties.get("label").set(size, "small");
+
+        assertEquals("small", properties.get("label").get(size));
+        assertEquals("label", properties.get("label").getSetter().getName());
+    }
+
+    /**
+     * Verify that accessors declared by subclasses take precedence.
+     */
+    @Test
+    public void subclassTest() {
+        Map<String, Property> properties = Reflect.properties(SubBean.class);
+        SubBean bean = new SubBean();
+
+        assertEquals(SubBean.class, properties.get("name").getGetter().getDeclaringClass());
+        assertEquals("sub", properties.get("name").get(bean));
+        assertEquals(Bean.class, properties.get("name").getSetter().getDeclaringClass());
+    }
+
+    /**
+     * A class with JavaBeans accessors.
+     */
+    static class Bean {
+
+        /**
+         * A property with only a setter.
+         */
+        int count;
+
+        /**
+         * A property written by its setter.
+         */
+        String name = "name";
+
+        /**
+         * A property that is only read.
+         */
+        private final long total = 42L;
+
+        /**
+         * Returns a property without a field.
+         *
+         * @return The value.
+         */
+        public String getURL() {
+            return "http://example.com";
+        }
+
+        /**
+         * Returns a property.
+         *
+         * @return The value.
+         */
+        public String getName() {
+            return name.substring(0, name.length() - 1);
+        }
+
+        /**
+         * Returns a read-only property.
+         *
+         * @return The value.
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * Returns a boolean property.
+         *
+         * @return The value.
+         */
+        public boolean isActive() {
+            return true;
+        }
+
+        /**
+         * Sets a property without a getter.
+         *
+         * @param count The value.
+         */
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        /**
+         * Sets a property.
+         *
+         * @param name The value.
+         */
+        public void setName(String name) {
+            this.name = name + "!";
+        }
+    }
+
+    /**
+     * A record-like class.
+     */
+    static final class Size {
+
+        /**
+         * The height.
+         */
+        private final int height;
+
+        /**
+         * A property with fluent accessors.
+         */
+        private String label;
+
+        /**
+         * The width.
+         */
+        private final int width;
+
+        /**
+         * Creates a size.
+         *
+         * @param width  The width.
+         * @param height The height.
+         */
+        Size(int width, int height) {
+            this.height = height;
+            this.width = width;
+        }
+
+        /**
+         * Returns the height.
+         *
+         * @return The height.
+         */
+        int height() {
+            return height;
+        }
+
+        /**
+         * Returns the label.
+         *
+         * @return The label.
+         */
+        String label() {
+            return label;
+        }
+
+        /**
+         * Sets the label.
+         *
+         * @param label The label.
+         *
+         * @return This size.
+         */
+        Size label(String label) {
+            this.label = label;
+
+            return this;
+        }
+
+        /**
+         * Returns the width.
+         *
+         * @return The width.
+         */
+        int width() {
+            return width;
+        }
+    }
+
+    /**
+     * A subclass that overrides a getter.
+     */
+    static class SubBean extends Bean {
+
+        @Override
+        public String getName() {
+            return "sub";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that static state is captured and restored as intended.
+ */
+public class StaticStateTest {
+
+    /**
+     * Verify that nested classes are restored only if requested.
+     */
+    @Test
+    public void captureNestedTest() {
+        StaticState shallow = StaticState.capture(Outer.class);
+        StaticState deep = StaticState.capture(true, Outer.class);
+
+        Outer.counter = 5;
+        Outer.Inner.instance = "changed";
+
+        shallow.restore();
+
+        assertEquals(0, Outer.counter);
+        assertEquals("changed", Outer.Inner.instance);
+
+        deep.restore();
+
+        assertNull(Outer.Inner.instance);
+    }
+
+    /**
+     * Verify that the static fields are restored.
+     */
+    @Test
+    public void restoreTest() {
+        StaticState state = StaticState.capture(Outer.class);
+
+        Outer.counter = 10;
+        Outer.name = null;
+
+        state.restore();
+
+        assertEquals(0, Outer.counter);
+        assertEquals("outer", Outer.name);
+
+        Outer.counter = 20;
+
+        state.restore();
+
+        assertEquals(0, Outer.counter);
+    }
+
+    /**
+     * Resets modified values.
+     */
+    @AfterEach
+    public void tearDown() {
+        Outer.counter = 0;
+        Outer.name = "outer";
+        Outer.Inner.instance = null;
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Outer {
+
+        /**
+         * A constant that cannot be restored.
+         */
+        static final String CONSTANT = "constant";
+
+        /**
+         * A static counter.
+         */
+        static int counter;
+
+        /**
+         * A static name.
+         */
+        static String name = "outer";
+
+        /**
+         * A nested class used for testing.
+         */
+        static class Inner {
+
+            /**
+             * A static instance.
+             */
+            static String instance;
+        }
+    }
+}
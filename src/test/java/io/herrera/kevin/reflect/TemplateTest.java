@@ -0,0 +1,96 @@
+package io.herrera.kevin.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.herrera.kevin.reflect.ReflectTest.Alpha;
+import io.herrera.kevin.reflect.ReflectTest.AlphaException;
+import io.herrera.kevin.reflect.ReflectTest.Beta;
+import io.herrera.kevin.reflect.junit.RestoreStaticState;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that templates function as intended.
+ */
+@RestoreStaticState(Alpha.class)
+public class TemplateTest {
+
+    /**
+     * The template under test.
+     */
+    private final Template<Beta> template = Reflect.template(Beta.class);
+
+    /**
+     * Verify that a view bound to an instance uses the instance.
+     */
+    @Test
+    public void bindTest() {
+        Beta object = new Beta();
+        Template.Bound<Beta> bound = template.bind(object);
+
+        bound.set("superInstanceField", "changed");
+
+        assertSame(object, bound.getInstance());
+        assertEquals("changed", bound.get("superInstanceField"));
+        assertEquals("super instance method: test", bound.invoke("superInstanceMethod", "test"));
+        assertEquals("super instance method: any", bound.invokeAny("superInstanceMethod", "any"));
+    }
+
+    /**
+     * Verify that there is one template per class and that members are remembered.
+     */
+    @Test
+    public void cacheTest() {
+        assertSame(template, Reflect.template(Beta.class));
+        assertSame(template.field("superInstanceField"), template.field("superInstanceField"));
+        assertSame(template.anyMethod("superStaticMethod"), template.anyMethod("superStaticMethod"));
+        assertSame(
+            template.method("superStaticMethod", String.class),
+            template.method("superStaticMethod", String.class)
+        );
+        assertEquals(Beta.class, template.getReflectedClass());
+    }
+
+    /**
+     * Verify that field values are read and written.
+     */
+    @Test
+    public void getTest() {
+        Beta object = new Beta();
+
+        assertEquals("super instance field", template.get(object, "superInstanceField"));
+        assertEquals("super static field", template.get(null, "superStaticField"));
+
+        template.set(null, "superStaticField", "changed");
+
+        assertEquals("changed", Alpha.getSuperStaticField());
+        assertThrows(NoSuchFieldException.class, () -> template.get(object, "doesNotExist"));
+    }
+
+    /**
+     * Verify that methods are invoked and their exceptions rethrown.
+     */
+    @Test
+    public void invokeTest() {
+        assertEquals(
+            "super static method: test",
+            template.invoke(null, "superStaticMethod", "test")
+        );
+
+        assertEquals(
+            "super static method: again",
+            template.invoke(null, "superStaticMethod", "again")
+        );
+
+        assertThrows(
+            AlphaException.class,
+            () -> template.invokeAny(null, "superStaticExceptionMethod")
+        );
+
+        assertThrows(
+            NoSuchMethodException.class,
+            () -> template.invoke(null, "superStaticMethod", 1)
+        );
+    }
+}
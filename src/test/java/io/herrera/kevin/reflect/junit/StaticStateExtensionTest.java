@@ -0,0 +1,74 @@
+package io.herrera.kevin.reflect.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that static state is restored between tests.
+ *
+ * <p>Each test expects the original state and then changes it, so whichever test runs second
+ * fails unless the state was restored.</p>
+ */
+@RestoreStaticState(StaticStateExtensionTest.Counter.class)
+public class StaticStateExtensionTest {
+
+    /**
+     * Verify that the state is restored after the first test.
+     */
+    @Test
+    public void firstTest() {
+        assertEquals(0, Counter.count);
+
+        Counter.count++;
+    }
+
+    /**
+     * Verify that the state is restored after the second test.
+     */
+    @Test
+    public void secondTest() {
+        assertEquals(0, Counter.count);
+
+        Counter.count++;
+    }
+
+    /**
+     * Verifies that nested test classes use the annotation of the enclosing class.
+     */
+    @Nested
+    public class NestedTest {
+
+        /**
+         * Verify that the state is restored after the first nested test.
+         */
+        @Test
+        public void firstTest() {
+            assertEquals(0, Counter.count);
+
+            Counter.count++;
+        }
+
+        /**
+         * Verify that the state is restored after the second nested test.
+         */
+        @Test
+        public void secondTest() {
+            assertEquals(0, Counter.count);
+
+            Counter.count++;
+        }
+    }
+
+    /**
+     * A class used for testing.
+     */
+    static class Counter {
+
+        /**
+         * A static counter.
+         */
+        private static int count;
+    }
+}